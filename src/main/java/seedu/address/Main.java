@@ -1,9 +1,15 @@
 package seedu.address;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookFormat;
 
 /**
  * The main entry point to the application.
@@ -22,9 +28,14 @@ import seedu.address.commons.core.LogsCenter;
  * to be the entry point of the application, we avoid this issue.
  */
 public class Main {
+    public static final String CONVERT_FLAG = "--convert";
+
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(CONVERT_FLAG)) {
+            System.exit(convert(args));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -38,4 +49,29 @@ public class Main {
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Converts an address book file between the JSON and binary formats without starting the GUI,
+     * e.g. {@code --convert data/addressbook.json data/addressbook.bin}.
+     *
+     * @return the exit status of the conversion.
+     */
+    private static int convert(String[] args) {
+        if (args.length != 3) {
+            System.err.println("Usage: " + CONVERT_FLAG + " SOURCE_FILE TARGET_FILE");
+            return 2;
+        }
+        Path source = Paths.get(args[1]);
+        Path target = Paths.get(args[2]);
+        try {
+            ReadOnlyAddressBook converted = AddressBookFormat.convert(source, target);
+            System.out.println("Converted " + converted.getPersonList().size() + " persons from "
+                    + source + " (" + AddressBookFormat.of(source) + ") to "
+                    + target + " (" + AddressBookFormat.of(target) + ")");
+            return 0;
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not convert " + source + " to " + target + ": " + e.getMessage());
+            return 1;
+        }
+    }
 }
@@ -2,10 +2,17 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -16,16 +23,18 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.LoadStatus;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormat;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AppendOnlyCommandHistoryStorage;
 import seedu.address.storage.CommandHistoryStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonCommandHistoryStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -42,6 +51,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 2, 2, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
 
     protected Ui ui;
     protected Logic logic;
@@ -49,9 +59,13 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     private CommandHistory commandHistory;
+    private ModelManager loadingModel;
+    private boolean isPersonListStreamed;
+    private long launchNanos;
 
     @Override
     public void init() throws Exception {
+        launchNanos = System.nanoTime();
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
@@ -61,17 +75,32 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        CommandHistoryStorage commandHistoryStorage =
-                new JsonCommandHistoryStorage(Path.of("data", "commandhistory.json"));
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        AddressBookStorage addressBookStorage = createAddressBookStorage(userPrefs);
+        CommandHistoryStorage commandHistoryStorage = new AppendOnlyCommandHistoryStorage(
+                Path.of("data", "commandhistory.log"), Path.of("data", "commandhistory.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage,
+                userPrefs.getSaveDelayMillis());
 
         commandHistory = initCommandHistory(commandHistoryStorage);
-        model = initModelManager(storage, userPrefs);
+        commandHistory.setOnAdded(this::appendToCommandHistory);
+        // the address book is read after the window is shown, see loadAddressBookInBackground
+        loadingModel = ModelManager.loading(userPrefs);
+        model = loadingModel;
+        isPersonListStreamed = !(AddressBookFormat.of(userPrefs.getAddressBookFilePath()) == AddressBookFormat.BINARY
+                && userPrefs.isLazyPersonLoadingEnabled());
         logic = new LogicManager(model, storage);
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a storage for the address book file in {@code userPrefs}, in the format given by its extension.
+     * A JSON file is split into segments if {@code userPrefs} asks for it or it has been split before.
+     */
+    private AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        return AddressBookFormat.of(addressBookFilePath).createStorage(addressBookFilePath, userPrefs, VERSION);
+    }
+
     private CommandHistory initCommandHistory(CommandHistoryStorage storage) {
         logger.info("Using command history file : " + storage.getCommandHistoryFilePath());
         try {
@@ -83,29 +112,126 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Saves {@code command} to the command history file as soon as it is entered.
+     */
+    private void appendToCommandHistory(String command) {
+        try {
+            storage.appendCommand(command);
+        } catch (IOException e) {
+            logger.warning("Could not save command to history: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Reads the address book on a background thread and hands its persons to {@code loadingModel} on the JavaFX
+     * application thread in batches, so that the list fills while the window stays responsive.
+     * Persons that are only decoded when first accessed are handed over all at once instead, so that they are not
+     * all decoded just to be shown.
+     */
+    private void loadAddressBookInBackground(Duration timeToWindow) {
+        Thread loader = new Thread(() -> loadAddressBook(timeToWindow), "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Reads {@code storage}'s address book into {@code loadingModel}, handing over persons as the storage reads
+     * them where it can. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or an empty address book will be used instead if any error occurs when reading {@code storage}'s address
+     * book. Either way, loading always finishes.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
+    private void loadAddressBook(Duration timeToWindow) {
+        Path filePath = storage.getAddressBookFilePath();
+        logger.info("Using data file : " + filePath);
+
+        AtomicInteger streamedCount = new AtomicInteger();
+        Consumer<List<Person>> onPersonsRead = batch -> {
+            int loadedCount = streamedCount.addAndGet(batch.size());
+            Platform.runLater(() -> {
+                loadingModel.addLoadedPersons(batch);
+                ui.showLoadStatus(LoadStatus.loading(loadedCount));
+            });
+        };
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            addressBookOptional = isPersonListStreamed ? storage.readAddressBookInBatches(onPersonsRead)
+                    : storage.readAddressBook();
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+            logger.warning("Data file at " + filePath + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            replaceLoadedPersons(new AddressBook(), false, timeToWindow, describe(e.getCause()));
+            return;
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Unexpected error reading data file at " + filePath + "."
+                    + " Will be starting with an empty AddressBook.", e);
+            replaceLoadedPersons(new AddressBook(), false, timeToWindow, describe(e));
+            return;
+        }
+
+        if (!addressBookOptional.isPresent()) {
+            logger.info("Creating a new data file " + filePath + " populated with a sample AddressBook.");
+            replaceLoadedPersons(SampleDataUtil.getSampleAddressBook(), false, timeToWindow, null);
+            return;
+        }
+        if (!isPersonListStreamed) {
+            replaceLoadedPersons(addressBookOptional.get(), true, timeToWindow, null);
+            return;
         }
 
-        return new ModelManager(initialData, userPrefs);
+        // only the persons the storage did not hand over while reading are left to add
+        List<Person> persons = addressBookOptional.get().getPersonList();
+        int start = streamedCount.get();
+        while (persons.size() - start > LOAD_BATCH_SIZE) {
+            onPersonsRead.accept(new ArrayList<>(persons.subList(start, start + LOAD_BATCH_SIZE)));
+            start += LOAD_BATCH_SIZE;
+        }
+        List<Person> remainingPersons = new ArrayList<>(persons.subList(start, persons.size()));
+        Platform.runLater(() -> {
+            loadingModel.finishLoading(remainingPersons);
+            showLoaded(true, timeToWindow);
+        });
+    }
+
+    /**
+     * Finishes loading on the JavaFX application thread with {@code addressBook} in place of any persons handed to
+     * {@code loadingModel} so far, showing {@code error} if it is not null.
+     *
+     * @param isSaved whether {@code addressBook} is what the address book file holds.
+     */
+    private void replaceLoadedPersons(ReadOnlyAddressBook addressBook, boolean isSaved, Duration timeToWindow,
+            String error) {
+        Platform.runLater(() -> {
+            loadingModel.finishLoading(addressBook);
+            if (error != null) {
+                ui.showLoadStatus(LoadStatus.failed(error));
+                return;
+            }
+            showLoaded(isSaved, timeToWindow);
+        });
+    }
+
+    private void showLoaded(boolean isSaved, Duration timeToWindow) {
+        if (isSaved) {
+            // the model now holds what the file holds, so commands that change nothing need not write it
+            storage.markAddressBookSaved(loadingModel.getAddressBook());
+        }
+        int personCount = loadingModel.getAddressBook().getPersonList().size();
+        Duration timeToLoaded = Duration.ofNanos(System.nanoTime() - launchNanos);
+        logger.info("Loaded " + personCount + " persons " + timeToLoaded.toMillis() + " ms after launch");
+        ui.showLoadStatus(LoadStatus.loaded(personCount, timeToWindow, timeToLoaded));
+    }
+
+    /**
+     * Returns the first line of the message of {@code error}, or its type if it has no message.
+     */
+    private static String describe(Throwable error) {
+        String message = error == null ? null : error.getMessage();
+        if (message == null || message.isBlank()) {
+            return error == null ? "unknown error" : error.getClass().getSimpleName();
+        }
+        return message.lines().findFirst().get();
     }
 
     private void initLogging(Config config) {
@@ -187,16 +313,26 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage, commandHistory);
+
+        Duration timeToWindow = Duration.ofNanos(System.nanoTime() - launchNanos);
+        logger.info("Main window shown " + timeToWindow.toMillis() + " ms after launch");
+        ui.showLoadStatus(LoadStatus.loading(0));
+        loadAddressBookInBackground(timeToWindow);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
 
+        try {
+            storage.flushAddressBook();
+            logger.info("Address book saved successfully.");
+        } catch (IOException e) {
+            logger.severe("Failed to save address book on exit: " + StringUtil.getDetails(e));
+        }
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
-            storage.saveCommandHistory(commandHistory);
-            logger.info("Command history saved successfully.");
         } catch (IOException e) {
             logger.severe("Failed to save data on exit: " + StringUtil.getDetails(e));
         }
@@ -2,7 +2,11 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +15,11 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,9 +37,11 @@ import seedu.address.commons.exceptions.DataLoadingException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
@@ -92,6 +102,45 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes a JSON document to the specified file through a buffered stream, without building it in memory first.
+     * {@code content} writes the document to the generator it is given; objects passed to
+     * {@link JsonGenerator#writeObject(Object)} are serialized the same way as in {@link #saveJsonFile}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @param content cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void streamJsonFile(Path filePath, JsonContent content) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(content);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), STREAM_BUFFER_SIZE);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            content.writeTo(generator);
+        }
+    }
+
+    /**
+     * Opens the specified file for reading one token at a time, without reading the whole file into memory first.
+     * {@link JsonParser#readValueAs(Class)} deserializes values the same way as {@link #readJsonFile}.
+     * The caller must close the returned parser, which also closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonParser openJsonFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), STREAM_BUFFER_SIZE);
+        try {
+            return objectMapper.getFactory().createParser(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +160,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a compact, single-line JSON string.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes the content of a JSON document, e.g. one element at a time.
+     */
+    @FunctionalInterface
+    public interface JsonContent {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,14 +1,17 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveStatus;
 
 /**
  * API of the Logic component
@@ -23,6 +26,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes a command returned by {@link #parseCommand(String)} and returns the result.
+     * The command's {@link Command#prepare()} must have been called, and must have succeeded.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
+    /**
+     * Parses the command entered by the user without executing it.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Command parseCommand(String commandText) throws ParseException;
+
     /**
      * Returns the AddressBook.
      *
@@ -47,4 +63,20 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Returns the number of changes that can currently be undone.
+     */
+    int getUndoStepCount();
+
+    /**
+     * Returns a rough estimate, in bytes, of the memory retained by the undo history.
+     */
+    long getUndoMemoryEstimate();
+
+    /**
+     * Sets the listener that is told about the progress of saving the address book.
+     * It may be called from a background thread.
+     */
+    void setSaveStatusListener(Consumer<SaveStatus> listener);
 }
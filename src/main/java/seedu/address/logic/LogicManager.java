@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,13 +11,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveStatus;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,6 +29,9 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_STILL_LOADING =
+            "The address book is still loading. Only commands that do not change it can be used until it is loaded.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -45,29 +49,53 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        Command command = parseCommand(commandText);
+        command.prepare();
+        return execute(command);
+    }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        if (model.isLoading() && command.isMutating()) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
 
         // Save state before commands that modify data
-        if (!(command instanceof UndoCommand)) {
+        if (command.isUndoable()) {
             model.saveState();
         }
 
-        commandResult = command.execute(model);
+        CommandResult commandResult = command.execute(model);
+        if (model.isLoading()) {
+            // a partly loaded address book must never replace the data file
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public Command parseCommand(String commandText) throws ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return addressBookParser.parseCommand(commandText);
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book fails with {@code e}.
+     */
+    public static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -92,4 +120,19 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public int getUndoStepCount() {
+        return model.getUndoStepCount();
+    }
+
+    @Override
+    public long getUndoMemoryEstimate() {
+        return model.getUndoMemoryEstimate();
+    }
+
+    @Override
+    public void setSaveStatusListener(Consumer<SaveStatus> listener) {
+        storage.setSaveStatusListener(listener);
+    }
 }
@@ -17,4 +17,37 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Does the work of this command that does not need the model, such as reading a file, before
+     * {@link #execute(Model)} is called. It must not touch the model, as it may run on a background thread.
+     * Does nothing by default.
+     *
+     * @throws CommandException If the work fails, in which case the command must not be executed.
+     */
+    public void prepare() throws CommandException {
+    }
+
+    /**
+     * Returns true if {@link #prepare()} may take long enough that it should run off the UI thread.
+     */
+    public boolean isPreparedInBackground() {
+        return false;
+    }
+
+    /**
+     * Returns true if this command may change the address book, so that an undo point is recorded before it runs.
+     * Commands that only read or display data should override this to return false.
+     */
+    public boolean isUndoable() {
+        return true;
+    }
+
+    /**
+     * Returns true if this command may change the address book, so that it must not run while the address book is
+     * still loading. By default, this is the commands that record an undo point.
+     */
+    public boolean isMutating() {
+        return isUndoable();
+    }
+
 }
@@ -109,10 +109,11 @@ public class EditCommand extends Command {
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
         Role updatedRole = editPersonDescriptor.getRole().orElse(personToEdit.getRole());
         Cadence updatedCadence = editPersonDescriptor.getCadence().orElse(personToEdit.getCadence().orElse(null));
-        java.util.List<Interaction> interactionsCopy = new java.util.ArrayList<>(personToEdit.getInteractions());
+        // the history is immutable, so the edited person can share it
+        List<Interaction> interactions = personToEdit.getInteractions();
 
         return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, updatedRole,
-                updatedCadence, interactionsCopy);
+                updatedCadence, interactions);
     }
 
     @Override
@@ -221,4 +221,9 @@ public class ExportContactListCommand extends Command {
         return (profile == ExportContactListCommand.Profile.FULL)
                 ? ExportSchemas.full() : ExportSchemas.standard();
     }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
 }
@@ -55,4 +55,9 @@ public class FindCommand extends Command {
                 .add("predicate", predicate)
                 .toString();
     }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
 }
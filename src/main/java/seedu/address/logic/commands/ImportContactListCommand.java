@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -47,13 +48,16 @@ public class ImportContactListCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Successfully imported %d contacts from %s";
     public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %s";
-    public static final String MESSAGE_INVALID_FILE = "Invalid CSV format in file: %s";
+    public static final String MESSAGE_INVALID_FILE = "Invalid CSV format in file: %s\n%s";
     public static final String MESSAGE_READ_ERROR = "An error occurred while reading the file: %s";
 
     private static final Logger logger = LogsCenter.getLogger(ImportContactListCommand.class);
 
     private final Path filePath;
 
+    // The contacts read by prepare(), until they are imported by execute(Model)
+    private List<Person> preparedPersons;
+
     /**
      * Constructs an {@code ImportContactListCommand} that imports contacts from the given file path.
      *
@@ -65,17 +69,13 @@ public class ImportContactListCommand extends Command {
     }
 
     /**
-     * Executes the import command by reading contacts from a CSV file and adding them to the model.
+     * Reads and parses the contacts in the CSV file, so that {@link #execute(Model)} only has to add them to the
+     * model. This is the slow part of an import, which is why it can run off the UI thread.
      *
-     * @param model The {@link Model} which contains the address book.
-     * @return A {@link CommandResult} indicating success and number of contacts imported.
-     * @throws CommandException If the file is missing, unreadable, or has invalid content.
+     * @throws CommandException If the file is missing, unreadable, or has no valid contacts.
      */
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-        assert model != null : "Model reference must not be null in ImportContactListCommand";
-
+    public void prepare() throws CommandException {
         logger.info("Starting import process for file: " + filePath);
 
         verifyFileExists(filePath);
@@ -85,6 +85,33 @@ public class ImportContactListCommand extends Command {
             logger.warning("CSV contained no valid contacts: " + filePath);
             throw new CommandException(String.format(MESSAGE_NO_VALID_CONTACTS, filePath));
         }
+        preparedPersons = persons;
+    }
+
+    @Override
+    public boolean isPreparedInBackground() {
+        return true;
+    }
+
+    /**
+     * Executes the import command by adding the contacts read by {@link #prepare()} to the model, reading them first
+     * if they have not been read yet.
+     *
+     * @param model The {@link Model} which contains the address book.
+     * @return A {@link CommandResult} indicating success and number of contacts imported.
+     * @throws CommandException If the file is missing, unreadable, or has invalid content.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        assert model != null : "Model reference must not be null in ImportContactListCommand";
+
+        if (preparedPersons == null) {
+            prepare();
+        }
+        List<Person> persons = preparedPersons;
+        // a later execution reads the file again rather than importing what it held back then
+        preparedPersons = null;
 
         int importedCount = importPersonsIntoModel(model, persons);
         logger.info("Import completed successfully with " + importedCount + " new contacts.");
@@ -109,7 +136,7 @@ public class ImportContactListCommand extends Command {
      * Reads contacts from the given CSV file using {@link CsvUtil}.
      *
      * @param path Path to the CSV file.
-     * @return A list of {@link Person} objects parsed from the file.
+     * @return A list of {@link Person} objects parsed from the file, in file order.
      * @throws CommandException If the file content is invalid or cannot be read.
      */
     private List<Person> readPersonsFromCsv(Path path) throws CommandException {
@@ -122,12 +149,13 @@ public class ImportContactListCommand extends Command {
             throw new CommandException(String.format(MESSAGE_READ_ERROR, path));
         } catch (IllegalArgumentException e) {
             logger.log(Level.WARNING, "Invalid CSV format in " + path + ": " + e.getMessage());
-            throw new CommandException(String.format(MESSAGE_INVALID_FILE, path));
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, path, e.getMessage()));
         }
     }
 
     /**
-     * Adds valid, non-duplicate contacts to the {@link Model}.
+     * Adds valid, non-duplicate contacts to the {@link Model} in one bulk insert.
+     * Nothing is added until the whole file has been read, so a file that fails to read imports nothing.
      *
      * @param model   The {@link Model} instance managing persons.
      * @param persons The list of persons to import.
@@ -135,21 +163,12 @@ public class ImportContactListCommand extends Command {
      */
     private int importPersonsIntoModel(Model model, List<Person> persons) {
         assert persons != null : "Persons list must not be null before import";
-        int count = 0;
-
-        for (Person person : persons) {
-            if (person == null) {
-                logger.warning("Skipped null person entry during import.");
-                continue;
-            }
-            if (model.hasPerson(person)) {
-                logger.info("Duplicate contact skipped: " + person.getName());
-                continue;
-            }
-            model.addPerson(person);
-            count++;
-        }
-        return count;
+        long startNanos = System.nanoTime();
+        int addedCount = model.addPersons(persons).size();
+        logger.info("Added " + addedCount + " contacts to the model in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms, skipping "
+                + (persons.size() - addedCount) + " duplicates");
+        return addedCount;
     }
 
     @Override
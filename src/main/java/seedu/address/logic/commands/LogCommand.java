@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -45,10 +44,7 @@ public class LogCommand extends Command {
         }
 
         Person target = lastShownList.get(index.getZeroBased());
-        List<Interaction> newHistory = new ArrayList<>(target.getInteractions());
-        newHistory.add(new Interaction(type, details, Instant.now()));
-
-        Person updated = new Person(target, newHistory);
+        Person updated = target.withInteraction(new Interaction(type, details, Instant.now()));
         model.setPerson(target, updated);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, type, target.getName()));
@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Re-applies the change most recently reverted by {@link UndoCommand}.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo successful.";
+    public static final String MESSAGE_FAILURE = "Nothing to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (model.redoState()) {
+            return new CommandResult(MESSAGE_SUCCESS);
+        } else {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true; // redoes a change without recording an undo point of its own
+    }
+}
@@ -58,4 +58,9 @@ public class StatsCommand extends Command {
         }
         return new CommandResult(sj.toString());
     }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
 }
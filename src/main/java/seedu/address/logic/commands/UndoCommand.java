@@ -19,4 +19,14 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
     }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true; // undoes a change without recording an undo point of its own
+    }
 }
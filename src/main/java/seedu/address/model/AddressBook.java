@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.IntFunction;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.util.LazyObservableList;
 
 /**
  * Wraps all data at the address-book level
@@ -18,18 +23,13 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        persons = new UniquePersonList();
+    public AddressBook() {
+        this(new UniquePersonList());
     }
 
-    public AddressBook() {}
+    private AddressBook(UniquePersonList persons) {
+        this.persons = persons;
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
@@ -39,6 +39,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an empty AddressBook whose persons are kept in a structurally shared persistent list,
+     * so that {@link #snapshot()} is O(1).
+     */
+    public static AddressBook withPersistentStore() {
+        return new AddressBook(UniquePersonList.withPersistentStore());
+    }
+
+    /**
+     * Creates an AddressBook of persons with the given {@code names}, where the person at index {@code i} is only
+     * loaded by {@code loader.apply(i)} when first accessed. The loaded person must have the name at the same index.
+     *
+     * @throws DuplicatePersonException if two of the {@code names} are the same.
+     */
+    public static AddressBook deferred(List<Name> names, IntFunction<Person> loader) {
+        return new AddressBook(UniquePersonList.deferred(names, loader));
+    }
+
     //// list overwrite operations
 
     /**
@@ -55,6 +73,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // another AddressBook is unique by construction, so its persons need not be re-validated
+            persons.setPersons(((AddressBook) newData).persons);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -76,6 +99,39 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the address book at {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the address book in order, as a single change to the person list.
+     * None of the persons may already exist in the address book or appear twice in {@code toAdd}.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+    }
+
+    /**
+     * Adds the persons of {@code toAdd} that are neither in the address book nor earlier in {@code toAdd} to the end
+     * of the address book in order, as a single change to the person list.
+     *
+     * @return the persons added, in order.
+     */
+    public List<Person> addNewPersons(List<Person> toAdd) {
+        return persons.addAllNew(toAdd);
+    }
+
+    /**
+     * Returns the position of {@code person} in the address book, or -1 if it is not in the address book.
+     */
+    public int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -95,6 +151,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes the last {@code count} persons from this {@code AddressBook}, as a single change to the person list.
+     */
+    public void removeLastPersons(int count) {
+        persons.removeLast(count);
+    }
+
+    /**
+     * Returns an immutable view of the current persons that later changes to this address book do not affect.
+     * Suitable for handing to another thread, e.g. for saving or exporting.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new Snapshot(persons.snapshot(), persons.getVersion());
+    }
+
     //// util methods
 
     @Override
@@ -109,6 +180,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationVersion() {
+        return persons.getVersion();
+    }
+
+    @Override
+    public int getDeferredIndex(int index, IntFunction<Person> loader) {
+        return persons.getDeferredIndex(index, loader);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -132,4 +213,41 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sortCadence(Comparator<Person> comparator) {
         persons.sort(comparator);
     }
+
+    /**
+     * An immutable point-in-time view of an {@code AddressBook}.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final List<Person> source;
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        Snapshot(List<Person> persons, long version) {
+            this.source = persons;
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getModificationVersion() {
+            return version;
+        }
+
+        @Override
+        public int getDeferredIndex(int index, IntFunction<Person> loader) {
+            return LazyObservableList.getDeferredIndex(source, index, loader);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("persons", persons)
+                    .toString();
+        }
+    }
 }
@@ -0,0 +1,177 @@
+package seedu.address.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.interaction.Interaction;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A single recorded change to an {@code AddressBook} that can be reverted and re-applied.
+ * Undo history is kept as groups of these edits instead of full copies of the address book.
+ */
+interface AddressBookEdit {
+
+    long EDIT_BYTES = 32;
+    long REFERENCE_BYTES = 8;
+
+    /**
+     * Reverts this change on {@code addressBook}, which must be in the state right after the change.
+     */
+    void undo(AddressBook addressBook);
+
+    /**
+     * Re-applies this change on {@code addressBook}, which must be in the state right before the change.
+     */
+    void redo(AddressBook addressBook);
+
+    /**
+     * Returns a rough estimate of the heap this edit keeps alive beyond what the address book itself references,
+     * e.g. persons that have been deleted or replaced. Interaction histories shared with a live person are not counted.
+     */
+    long estimatedBytes();
+
+    /**
+     * Returns an edit recording that {@code person} was inserted at {@code index}.
+     */
+    static AddressBookEdit added(int index, Person person) {
+        return new AddressBookEdit() {
+            @Override
+            public void undo(AddressBook addressBook) {
+                addressBook.removePerson(person);
+            }
+
+            @Override
+            public void redo(AddressBook addressBook) {
+                addressBook.addPerson(index, person);
+            }
+
+            @Override
+            public long estimatedBytes() {
+                return EDIT_BYTES;
+            }
+        };
+    }
+
+    /**
+     * Returns an edit recording that {@code persons} were appended in order to the end of the address book.
+     * The list must not be modified afterwards.
+     */
+    static AddressBookEdit addedAll(List<Person> persons) {
+        return new AddressBookEdit() {
+            @Override
+            public void undo(AddressBook addressBook) {
+                addressBook.removeLastPersons(persons.size());
+            }
+
+            @Override
+            public void redo(AddressBook addressBook) {
+                addressBook.addPersons(persons);
+            }
+
+            @Override
+            public long estimatedBytes() {
+                return EDIT_BYTES + persons.size() * REFERENCE_BYTES;
+            }
+        };
+    }
+
+    /**
+     * Returns an edit recording that {@code person} was removed from {@code index}.
+     */
+    static AddressBookEdit removed(int index, Person person) {
+        return new AddressBookEdit() {
+            @Override
+            public void undo(AddressBook addressBook) {
+                addressBook.addPerson(index, person);
+            }
+
+            @Override
+            public void redo(AddressBook addressBook) {
+                addressBook.removePerson(person);
+            }
+
+            @Override
+            public long estimatedBytes() {
+                return EDIT_BYTES + estimateBytes(person, true);
+            }
+        };
+    }
+
+    /**
+     * Returns an edit recording that {@code target} was replaced by {@code editedPerson}.
+     */
+    static AddressBookEdit replaced(Person target, Person editedPerson) {
+        return new AddressBookEdit() {
+            @Override
+            public void undo(AddressBook addressBook) {
+                addressBook.setPerson(editedPerson, target);
+            }
+
+            @Override
+            public void redo(AddressBook addressBook) {
+                addressBook.setPerson(target, editedPerson);
+            }
+
+            @Override
+            public long estimatedBytes() {
+                // edits and logs hand the existing interaction history on to the edited person
+                return EDIT_BYTES + estimateBytes(target, false);
+            }
+        };
+    }
+
+    /**
+     * Returns an edit recording that the whole person list changed from {@code before} to {@code after},
+     * e.g. after a clear or a sort. Both lists must not be modified afterwards.
+     */
+    static AddressBookEdit reset(List<Person> before, List<Person> after) {
+        Set<Person> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(after);
+        long dropped = 0;
+        for (Person person : before) {
+            if (!kept.contains(person)) {
+                dropped += estimateBytes(person, true);
+            }
+        }
+        long bytes = EDIT_BYTES + (before.size() + after.size()) * REFERENCE_BYTES + dropped;
+
+        return new AddressBookEdit() {
+            @Override
+            public void undo(AddressBook addressBook) {
+                addressBook.setPersons(before);
+            }
+
+            @Override
+            public void redo(AddressBook addressBook) {
+                addressBook.setPersons(after);
+            }
+
+            @Override
+            public long estimatedBytes() {
+                return bytes;
+            }
+        };
+    }
+
+    /**
+     * Returns a rough estimate of the heap used by {@code person}, optionally including its interaction history.
+     */
+    private static long estimateBytes(Person person, boolean withInteractions) {
+        long bytes = 160 + 2L * (person.getName().fullName.length() + person.getPhone().value.length()
+                + person.getEmail().value.length() + person.getAddress().value.length());
+        for (Tag tag : person.getTags()) {
+            bytes += 56 + 2L * tag.tagName.length();
+        }
+        // a deferred history stays in the data file, so only the summary it holds is counted
+        if (withInteractions && !person.getInteractions().isDeferred()) {
+            for (Interaction interaction : person.getInteractions()) {
+                bytes += 72 + 2L * interaction.getDetails().length();
+            }
+        }
+        return bytes;
+    }
+}
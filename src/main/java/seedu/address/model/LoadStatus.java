@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Progress of loading the address book at startup: some persons shown, all persons loaded, or failed to load.
+ * Guarantees: immutable.
+ */
+public class LoadStatus {
+
+    /**
+     * The stages a load goes through.
+     */
+    public enum State {
+        LOADING, LOADED, FAILED
+    }
+
+    private final State state;
+    private final int personCount;
+    private final Duration timeToWindow;
+    private final Duration timeToLoaded;
+    private final String error;
+
+    private LoadStatus(State state, int personCount, Duration timeToWindow, Duration timeToLoaded, String error) {
+        this.state = state;
+        this.personCount = personCount;
+        this.timeToWindow = timeToWindow;
+        this.timeToLoaded = timeToLoaded;
+        this.error = error;
+    }
+
+    /**
+     * Returns a status for a load that has shown {@code personCount} persons so far.
+     */
+    public static LoadStatus loading(int personCount) {
+        return new LoadStatus(State.LOADING, personCount, null, null, null);
+    }
+
+    /**
+     * Returns a status for a load of {@code personCount} persons that completed {@code timeToLoaded} after launch,
+     * where the main window was shown {@code timeToWindow} after launch.
+     */
+    public static LoadStatus loaded(int personCount, Duration timeToWindow, Duration timeToLoaded) {
+        requireNonNull(timeToWindow);
+        requireNonNull(timeToLoaded);
+        return new LoadStatus(State.LOADED, personCount, timeToWindow, timeToLoaded, null);
+    }
+
+    /**
+     * Returns a status for a load that failed with {@code error}, after which the app started with an empty
+     * address book.
+     */
+    public static LoadStatus failed(String error) {
+        requireNonNull(error);
+        return new LoadStatus(State.FAILED, 0, null, null, error);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of persons shown so far, or in total once loaded.
+     */
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns why the load failed, or null if it has not failed.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Returns how long after launch the main window was shown, or null if still loading.
+     */
+    public Duration getTimeToWindow() {
+        return timeToWindow;
+    }
+
+    /**
+     * Returns how long after launch all persons were loaded, or null if still loading.
+     */
+    public Duration getTimeToLoaded() {
+        return timeToLoaded;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LoadStatus)) {
+            return false;
+        }
+
+        LoadStatus otherStatus = (LoadStatus) other;
+        return state == otherStatus.state
+                && personCount == otherStatus.personCount
+                && Objects.equals(timeToWindow, otherStatus.timeToWindow)
+                && Objects.equals(timeToLoaded, otherStatus.timeToLoaded)
+                && Objects.equals(error, otherStatus.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, personCount, timeToWindow, timeToLoaded, error);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("state", state)
+                .add("personCount", personCount)
+                .add("timeToWindow", timeToWindow)
+                .add("timeToLoaded", timeToLoaded)
+                .add("error", error)
+                .toString();
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -70,6 +71,14 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds those of {@code persons} that are neither in the address book nor earlier in {@code persons}, in order,
+     * as a single change to the person list.
+     *
+     * @return the persons added, in order.
+     */
+    List<Person> addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -91,8 +100,9 @@ public interface Model {
      * Saves the current state of the address book.
      * <p>
      * This method should be called before executing any command that modifies the data.
-     * It creates and stores a deep copy of the current {@code AddressBook}, allowing
-     * changes to be undone later using {@link #undoState()}.
+     * Changes made after this call are recorded as one group of reversible edits, allowing
+     * them to be undone later using {@link #undoState()}. The oldest groups are dropped once the
+     * history exceeds the undo step or memory limits in the user prefs.
      */
     void saveState();
 
@@ -100,9 +110,34 @@ public interface Model {
      * Reverts the address book to the most recent saved state.
      * <p>
      * If no previous states exist, this method does nothing and returns {@code false}.
-     * Otherwise, it restores the last saved state and returns {@code true}.
+     * Otherwise, it reverts the changes made since the last saved state and returns {@code true}.
      *
      * @return {@code true} if the undo was successful, or {@code false} if there is no previous state.
      */
     boolean undoState();
+
+    /**
+     * Re-applies the changes most recently reverted by {@link #undoState()}.
+     * <p>
+     * Any change made after an undo discards the changes that could be redone.
+     *
+     * @return {@code true} if the redo was successful, or {@code false} if there is nothing to redo.
+     */
+    boolean redoState();
+
+    /**
+     * Returns the number of changes that can currently be undone.
+     */
+    int getUndoStepCount();
+
+    /**
+     * Returns a rough estimate, in bytes, of the memory retained by the undo and redo history.
+     */
+    long getUndoMemoryEstimate();
+
+    /**
+     * Returns true if the address book is still being loaded, in which case it only holds some of the persons
+     * and must not be changed.
+     */
+    boolean isLoading();
 }
@@ -4,16 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Stack;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.LazyFilteredList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,9 +26,13 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final LazyFilteredList<Person> filteredPersons;
 
-    private final Stack<ReadOnlyAddressBook> history = new Stack<>();
+    // Each checkpoint holds the edits made since one call to saveState(); the most recent checkpoint is at the head
+    private final Deque<Checkpoint> history = new ArrayDeque<>();
+    private final Deque<Checkpoint> redoHistory = new ArrayDeque<>();
+    private long historyBytes;
+    private boolean isLoading;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,17 +40,31 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = userPrefs.isPersistentPersonListEnabled()
+                ? AddressBook.withPersistentStore()
+                : new AddressBook();
+        this.addressBook.resetData(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new LazyFilteredList<>(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Returns an empty ModelManager with the given userPrefs, which is loading its address book.
+     * Persons are added by {@link #addLoadedPersons(List)} until {@link #finishLoading(List)} or
+     * {@link #finishLoading(ReadOnlyAddressBook)}.
+     */
+    public static ModelManager loading(ReadOnlyUserPrefs userPrefs) {
+        ModelManager modelManager = new ModelManager(new AddressBook(), userPrefs);
+        modelManager.isLoading = true;
+        return modelManager;
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -83,7 +104,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        List<Person> before = new ArrayList<>(this.addressBook.getPersonList());
         this.addressBook.resetData(addressBook);
+        record(AddressBookEdit.reset(before, new ArrayList<>(this.addressBook.getPersonList())));
     }
 
     @Override
@@ -99,13 +122,28 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.indexOfPerson(target);
         addressBook.removePerson(target);
+        record(AddressBookEdit.removed(index, target));
     }
 
     @Override
     public void addPerson(Person person) {
+        int index = addressBook.getPersonList().size();
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        record(AddressBookEdit.added(index, person));
+        showAllPersons();
+    }
+
+    @Override
+    public List<Person> addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        List<Person> added = addressBook.addNewPersons(persons);
+        if (!added.isEmpty()) {
+            record(AddressBookEdit.addedAll(added));
+        }
+        showAllPersons();
+        return added;
     }
 
     @Override
@@ -113,6 +151,54 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        record(AddressBookEdit.replaced(target, editedPerson));
+    }
+
+    //=========== Loading ====================================================================================
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    /**
+     * Adds the next {@code persons} read from storage to the end of the address book, as a single change to the
+     * person list. They are shown under the current filter but are not recorded for undo.
+     * Persons already added are skipped, as the address book being read may turn out to hold duplicates, in which
+     * case it is replaced by {@link #finishLoading(ReadOnlyAddressBook)}.
+     */
+    public void addLoadedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        checkLoading();
+        addressBook.addNewPersons(persons);
+    }
+
+    /**
+     * Adds the last {@code remainingPersons} read from storage to the end of the address book, keeping the persons
+     * added while loading, and allows the address book to be changed from now on.
+     */
+    public void finishLoading(List<Person> remainingPersons) {
+        requireNonNull(remainingPersons);
+        checkLoading();
+        addressBook.addPersons(remainingPersons);
+        isLoading = false;
+    }
+
+    /**
+     * Replaces the persons added while loading with the complete {@code addressBook} read from storage, and allows
+     * the address book to be changed from now on.
+     */
+    public void finishLoading(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        checkLoading();
+        this.addressBook.resetData(addressBook);
+        isLoading = false;
+    }
+
+    private void checkLoading() {
+        if (!isLoading) {
+            throw new IllegalStateException("Address book has already been loaded.");
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -129,7 +215,18 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        // showing all persons needs no predicate, so that persons loaded on demand are not all loaded to be tested
+        filteredPersons.setPredicate(predicate == PREDICATE_SHOW_ALL_PERSONS ? null : predicate);
+    }
+
+    /**
+     * Shows all persons in the filtered list. A list that already shows all persons is not filtered again, so that
+     * its listeners only see the change that was just made rather than the whole list being replaced.
+     */
+    private void showAllPersons() {
+        if (filteredPersons.getPredicate() != null) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     @Override
@@ -151,34 +248,126 @@ public class ModelManager implements Model {
 
     @Override
     public void sortCadenceList(Comparator<Person> comparator) {
+        List<Person> before = new ArrayList<>(addressBook.getPersonList());
         addressBook.sortCadence(comparator); // sort in AddressBook
+        record(AddressBookEdit.reset(before, new ArrayList<>(addressBook.getPersonList())));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     /**
-     * Saves the current state of the address book into history.
-     * This allows the user to undo the most recent change.
+     * Starts a new undo checkpoint. Changes made after this call are recorded as one undoable group.
+     * No copy of the address book is taken; a checkpoint that records no changes takes no undo step.
      */
+    @Override
     public void saveState() {
-        // Deep copy the current state
-        AddressBook copy = new AddressBook(addressBook);
-        history.push(copy);
+        if (history.isEmpty() || !history.peek().isEmpty()) {
+            history.push(new Checkpoint());
+        }
     }
 
     /**
-     * Restores the previous address book state if available.
+     * Reverts the changes recorded since the most recent checkpoint that recorded any.
      *
-     * @return true if the undo was successful, false if there was no previous state.
+     * @return true if the undo was successful, false if there was no change to undo.
      */
     @Override
     public boolean undoState() {
+        discardEmptyCheckpoint();
         if (history.isEmpty()) {
             return false;
         }
-        ReadOnlyAddressBook previous = history.pop();
-        setAddressBook(previous);
+        Checkpoint checkpoint = history.pop();
+        for (int i = checkpoint.edits.size() - 1; i >= 0; i--) {
+            checkpoint.edits.get(i).undo(addressBook);
+        }
+        redoHistory.push(checkpoint);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return true;
+    }
+
+    /**
+     * Re-applies the changes most recently reverted by {@link #undoState()}.
+     *
+     * @return true if the redo was successful, false if there was nothing to redo.
+     */
+    @Override
+    public boolean redoState() {
+        if (redoHistory.isEmpty()) {
+            return false;
+        }
+        discardEmptyCheckpoint();
+        Checkpoint checkpoint = redoHistory.pop();
+        for (AddressBookEdit edit : checkpoint.edits) {
+            edit.redo(addressBook);
+        }
+        history.push(checkpoint);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return true;
     }
 
+    @Override
+    public int getUndoStepCount() {
+        return history.isEmpty() || !history.peek().isEmpty() ? history.size() : history.size() - 1;
+    }
+
+    @Override
+    public long getUndoMemoryEstimate() {
+        return historyBytes;
+    }
+
+    /**
+     * Records {@code edit} in the current checkpoint. A new change invalidates anything that could be redone.
+     * Changes made before the first checkpoint are not undoable.
+     */
+    private void record(AddressBookEdit edit) {
+        if (history.isEmpty()) {
+            return;
+        }
+        long bytes = edit.estimatedBytes();
+        history.peek().add(edit, bytes);
+        historyBytes += bytes;
+        for (Checkpoint discarded : redoHistory) {
+            historyBytes -= discarded.bytes;
+        }
+        redoHistory.clear();
+        evictOldCheckpoints();
+    }
+
+    /**
+     * Drops the oldest checkpoints until the history fits within the undo step and memory limits in the user prefs.
+     * The current checkpoint is always kept, so the latest change can be undone even if it exceeds the budget alone.
+     */
+    private void evictOldCheckpoints() {
+        int maxSteps = userPrefs.getMaxUndoSteps();
+        long maxBytes = userPrefs.getMaxUndoMemoryBytes();
+        while (history.size() > 1 && (getUndoStepCount() > maxSteps || historyBytes > maxBytes)) {
+            Checkpoint evicted = history.pollLast();
+            historyBytes -= evicted.bytes;
+            logger.fine("Evicted oldest undo checkpoint of about " + evicted.bytes + " bytes");
+        }
+    }
+
+    private void discardEmptyCheckpoint() {
+        if (!history.isEmpty() && history.peek().isEmpty()) {
+            history.pop();
+        }
+    }
+
+    /**
+     * The edits recorded since one call to {@link #saveState()}, oldest first, with their estimated retained size.
+     */
+    private static class Checkpoint {
+        private final List<AddressBookEdit> edits = new ArrayList<>();
+        private long bytes;
+
+        private void add(AddressBookEdit edit, long editBytes) {
+            edits.add(edit);
+            bytes += editBytes;
+        }
+
+        private boolean isEmpty() {
+            return edits.isEmpty();
+        }
+    }
+
 }
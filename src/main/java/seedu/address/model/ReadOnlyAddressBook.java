@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.function.IntFunction;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +16,19 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the modification version of this address book. It changes whenever the persons change and is never
+     * shared with a different address book, so two equal versions mean identical contents.
+     */
+    long getModificationVersion();
+
+    /**
+     * Returns the index {@code loader} was given for the person at {@code index} of {@link #getPersonList()}, if that
+     * person was created unloaded to be loaded by {@code loader} and not replaced since, or -1 otherwise.
+     * The person is not loaded, so a storage can copy persons it read lazily without decoding them.
+     */
+    default int getDeferredIndex(int index, IntFunction<Person> loader) {
+        return -1;
+    }
+
 }
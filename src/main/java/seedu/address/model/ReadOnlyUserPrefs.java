@@ -13,4 +13,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isPersistentPersonListEnabled();
+
+    boolean isLazyPersonLoadingEnabled();
+
+    boolean isLazyInteractionLoadingEnabled();
+
+    int getAddressBookShardCount();
+
+    int getMaxUndoSteps();
+
+    long getMaxUndoMemoryBytes();
+
+    long getSaveDelayMillis();
+
 }
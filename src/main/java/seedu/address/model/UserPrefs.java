@@ -1,10 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,8 +17,17 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int MAX_ADDRESS_BOOK_SHARD_COUNT = 36;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean persistentPersonListEnabled = false;
+    private boolean lazyPersonLoadingEnabled = false;
+    private boolean lazyInteractionLoadingEnabled = false;
+    private int addressBookShardCount = 0;
+    private int maxUndoSteps = 100;
+    private long maxUndoMemoryBytes = 64L * 1024 * 1024;
+    private long saveDelayMillis = 500;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,47 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setPersistentPersonListEnabled(newUserPrefs.isPersistentPersonListEnabled());
+        setLazyPersonLoadingEnabled(newUserPrefs.isLazyPersonLoadingEnabled());
+        setLazyInteractionLoadingEnabled(newUserPrefs.isLazyInteractionLoadingEnabled());
+        setAddressBookShardCount(newUserPrefs.getAddressBookShardCount());
+        setMaxUndoSteps(newUserPrefs.getMaxUndoSteps());
+        setMaxUndoMemoryBytes(newUserPrefs.getMaxUndoMemoryBytes());
+        setSaveDelayMillis(newUserPrefs.getSaveDelayMillis());
+    }
+
+    /**
+     * Returns a copy of {@code userPrefs} in which every pref whose value is not allowed is set to its default.
+     * The names of those prefs are added to {@code invalidPrefs}. Prefs read from a file need this, as the file
+     * may have been edited by hand and reading it does not go through the setters.
+     */
+    public static UserPrefs withInvalidPrefsReset(ReadOnlyUserPrefs userPrefs, List<String> invalidPrefs) {
+        requireNonNull(userPrefs);
+        requireNonNull(invalidPrefs);
+        UserPrefs validPrefs = new UserPrefs();
+        List<String> invalid = new ArrayList<>();
+        setOrKeepDefault("guiSettings", validPrefs::setGuiSettings, userPrefs.getGuiSettings(), invalid);
+        setOrKeepDefault("addressBookFilePath", validPrefs::setAddressBookFilePath,
+                userPrefs.getAddressBookFilePath(), invalid);
+        validPrefs.setPersistentPersonListEnabled(userPrefs.isPersistentPersonListEnabled());
+        validPrefs.setLazyPersonLoadingEnabled(userPrefs.isLazyPersonLoadingEnabled());
+        validPrefs.setLazyInteractionLoadingEnabled(userPrefs.isLazyInteractionLoadingEnabled());
+        setOrKeepDefault("addressBookShardCount", validPrefs::setAddressBookShardCount,
+                userPrefs.getAddressBookShardCount(), invalid);
+        setOrKeepDefault("maxUndoSteps", validPrefs::setMaxUndoSteps, userPrefs.getMaxUndoSteps(), invalid);
+        setOrKeepDefault("maxUndoMemoryBytes", validPrefs::setMaxUndoMemoryBytes,
+                userPrefs.getMaxUndoMemoryBytes(), invalid);
+        setOrKeepDefault("saveDelayMillis", validPrefs::setSaveDelayMillis, userPrefs.getSaveDelayMillis(), invalid);
+        invalidPrefs.addAll(invalid);
+        return validPrefs;
+    }
+
+    private static <T> void setOrKeepDefault(String pref, Consumer<T> setter, T value, List<String> invalidPrefs) {
+        try {
+            setter.accept(value);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            invalidPrefs.add(pref);
+        }
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +110,96 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isPersistentPersonListEnabled() {
+        return persistentPersonListEnabled;
+    }
+
+    /**
+     * Sets whether the address book keeps its persons in a structurally shared persistent list.
+     * Takes effect the next time the model is created.
+     */
+    public void setPersistentPersonListEnabled(boolean persistentPersonListEnabled) {
+        this.persistentPersonListEnabled = persistentPersonListEnabled;
+    }
+
+    public boolean isLazyPersonLoadingEnabled() {
+        return lazyPersonLoadingEnabled;
+    }
+
+    /**
+     * Sets whether persons in a binary data file are only decoded when first accessed.
+     * Has no effect on JSON data files. Takes effect the next time the app is started.
+     */
+    public void setLazyPersonLoadingEnabled(boolean lazyPersonLoadingEnabled) {
+        this.lazyPersonLoadingEnabled = lazyPersonLoadingEnabled;
+    }
+
+    public boolean isLazyInteractionLoadingEnabled() {
+        return lazyInteractionLoadingEnabled;
+    }
+
+    /**
+     * Sets whether only the count and most recent interaction of each person in a binary data file are loaded
+     * up front, with the rest of the interaction history loaded when needed.
+     * Has no effect on JSON data files. Takes effect the next time the app is started.
+     */
+    public void setLazyInteractionLoadingEnabled(boolean lazyInteractionLoadingEnabled) {
+        this.lazyInteractionLoadingEnabled = lazyInteractionLoadingEnabled;
+    }
+
+    public int getAddressBookShardCount() {
+        return addressBookShardCount;
+    }
+
+    /**
+     * Sets the number of segment files a JSON data file is split into, so that a change only rewrites the segments
+     * holding the changed persons, or 0 to keep it in a single file. At most {@value #MAX_ADDRESS_BOOK_SHARD_COUNT}.
+     * Takes effect the next time the app starts; an existing single file is split on the first save, but setting this
+     * back to 0 does not join the segments again.
+     */
+    public void setAddressBookShardCount(int addressBookShardCount) {
+        checkArgument(addressBookShardCount >= 0 && addressBookShardCount <= MAX_ADDRESS_BOOK_SHARD_COUNT,
+                "Address book shard count must be between 0 and " + MAX_ADDRESS_BOOK_SHARD_COUNT);
+        this.addressBookShardCount = addressBookShardCount;
+    }
+
+    public int getMaxUndoSteps() {
+        return maxUndoSteps;
+    }
+
+    /**
+     * Sets the maximum number of changes kept for undo. Must be at least 1.
+     */
+    public void setMaxUndoSteps(int maxUndoSteps) {
+        checkArgument(maxUndoSteps >= 1, "Undo history must keep at least one step");
+        this.maxUndoSteps = maxUndoSteps;
+    }
+
+    public long getMaxUndoMemoryBytes() {
+        return maxUndoMemoryBytes;
+    }
+
+    /**
+     * Sets the estimated memory, in bytes, the undo history may retain before its oldest changes are dropped.
+     */
+    public void setMaxUndoMemoryBytes(long maxUndoMemoryBytes) {
+        checkArgument(maxUndoMemoryBytes >= 0, "Undo memory limit must not be negative");
+        this.maxUndoMemoryBytes = maxUndoMemoryBytes;
+    }
+
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    /**
+     * Sets how long, in milliseconds, the address book waits for further changes before writing them to disk.
+     * Takes effect the next time the app starts.
+     */
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, "Save delay must not be negative");
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +213,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && persistentPersonListEnabled == otherUserPrefs.persistentPersonListEnabled
+                && lazyPersonLoadingEnabled == otherUserPrefs.lazyPersonLoadingEnabled
+                && lazyInteractionLoadingEnabled == otherUserPrefs.lazyInteractionLoadingEnabled
+                && addressBookShardCount == otherUserPrefs.addressBookShardCount
+                && maxUndoSteps == otherUserPrefs.maxUndoSteps
+                && maxUndoMemoryBytes == otherUserPrefs.maxUndoMemoryBytes
+                && saveDelayMillis == otherUserPrefs.saveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, persistentPersonListEnabled, lazyPersonLoadingEnabled,
+                lazyInteractionLoadingEnabled, addressBookShardCount, maxUndoSteps, maxUndoMemoryBytes,
+                saveDelayMillis);
     }
 
     @Override
@@ -82,6 +235,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nPersistent person list : " + persistentPersonListEnabled);
+        sb.append("\nLazy person loading : " + lazyPersonLoadingEnabled);
+        sb.append("\nLazy interaction loading : " + lazyInteractionLoadingEnabled);
+        sb.append("\nAddress book shards : " + addressBookShardCount);
+        sb.append("\nMax undo steps : " + maxUndoSteps);
+        sb.append("\nMax undo memory (bytes) : " + maxUndoMemoryBytes);
+        sb.append("\nSave delay (ms) : " + saveDelayMillis);
         return sb.toString();
     }
 
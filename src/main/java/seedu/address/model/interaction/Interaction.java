@@ -17,6 +17,7 @@ public final class Interaction {
     private final InteractionType type;
     private final String details;
     private final Instant timestamp;
+    private final int hash;
 
     /**
      * Creates an {@code Interaction}.
@@ -40,6 +41,7 @@ public final class Interaction {
         this.type = type;
         this.details = trimmed;
         this.timestamp = timestamp;
+        this.hash = Objects.hash(type, this.details, timestamp);
     }
 
     public InteractionType getType() {
@@ -68,14 +70,15 @@ public final class Interaction {
             return false;
         }
         Interaction that = (Interaction) o;
-        return type == that.type
+        return hash == that.hash
+                && type == that.type
                 && details.equals(that.details)
                 && timestamp.equals(that.timestamp);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(type, details, timestamp);
+        return hash;
     }
 
     @Override
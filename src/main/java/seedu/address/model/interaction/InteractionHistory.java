@@ -0,0 +1,251 @@
+package seedu.address.model.interaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, append-only sequence of {@link Interaction}s (most recent at the end).
+ * <p>
+ * Versions produced by {@link #append(Interaction)} share one backing array, so appending to the latest version
+ * is amortized O(1) and never copies the existing history. Appending to an older version (e.g. one restored by
+ * undo) copies that version first, so earlier versions are never affected. The list hash code is maintained
+ * incrementally, so {@link #hashCode()} is O(1).
+ * <p>
+ * A {@link #deferred(int, Interaction, Supplier) deferred} history only holds its size and most recent interaction,
+ * and asks its loader for the interactions whenever any other element is needed.
+ */
+public final class InteractionHistory extends AbstractList<Interaction> implements RandomAccess {
+
+    public static final String MESSAGE_WRONG_DEFERRED_SIZE = "Expected %d interactions to be loaded but got %d.";
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final InteractionHistory EMPTY = new InteractionHistory(new Buffer(new Interaction[0]), 0, 1);
+
+    private final Buffer buffer; // null for a deferred history
+    private final Deferred deferred; // null unless the interactions are loaded on demand
+    private final int size;
+    private int hash; // 0 until computed, for deferred histories only; racy but always computed the same
+
+    private InteractionHistory(Buffer buffer, int size, int hash) {
+        this.buffer = buffer;
+        this.deferred = null;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    private InteractionHistory(Deferred deferred, int size) {
+        this.buffer = null;
+        this.deferred = deferred;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty history.
+     */
+    public static InteractionHistory empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a history containing {@code interactions} in order.
+     * If {@code interactions} is already an {@code InteractionHistory} it is returned as is.
+     */
+    public static InteractionHistory of(List<Interaction> interactions) {
+        requireNonNull(interactions);
+        if (interactions instanceof InteractionHistory) {
+            return (InteractionHistory) interactions;
+        }
+        if (interactions.isEmpty()) {
+            return EMPTY;
+        }
+
+        Interaction[] elements = interactions.toArray(new Interaction[0]);
+        int hash = 1;
+        for (Interaction interaction : elements) {
+            requireNonNull(interaction);
+            hash = 31 * hash + interaction.hashCode();
+        }
+        return new InteractionHistory(new Buffer(elements), elements.length, hash);
+    }
+
+    /**
+     * Returns a history of {@code size} interactions ending with {@code last}, whose interactions are only obtained
+     * from {@code loader} when needed, and every time they are needed. {@code loader} may be called from any thread
+     * and must return the same interactions in order each time, in an array that is never modified.
+     *
+     * @throws IllegalStateException from any method needing the interactions if {@code loader} returns the wrong
+     *     number of interactions, or if {@code loader} itself fails.
+     */
+    public static InteractionHistory deferred(int size, Interaction last, Supplier<Interaction[]> loader) {
+        requireNonNull(loader);
+        if (size == 0) {
+            return EMPTY;
+        }
+        requireNonNull(last);
+        return new InteractionHistory(new Deferred(last, loader), size);
+    }
+
+    /**
+     * Returns true if the interactions of this history are loaded on demand rather than held by it.
+     */
+    public boolean isDeferred() {
+        return deferred != null;
+    }
+
+    /**
+     * Returns the loader of a deferred history, or null if this history holds its interactions.
+     */
+    public Supplier<Interaction[]> getLoaderOrNull() {
+        return deferred != null ? deferred.loader : null;
+    }
+
+    /**
+     * Returns a new history with {@code interaction} appended. This history is not modified.
+     * Appending to a deferred history loads its interactions and returns a history that holds them.
+     */
+    public InteractionHistory append(Interaction interaction) {
+        requireNonNull(interaction);
+        if (buffer != null) {
+            int newHash = 31 * hashCode() + interaction.hashCode();
+            synchronized (buffer) {
+                if (buffer.used == size && size < buffer.elements.length) {
+                    // this is the latest version and there is spare capacity, so the slot after it can be claimed
+                    buffer.elements[size] = interaction;
+                    buffer.used++;
+                    return new InteractionHistory(buffer, size + 1, newHash);
+                }
+            }
+        }
+
+        // a deferred history is loaded once, for both its hash code and the copy
+        Interaction[] elements = elements();
+        int newHash = 31 * hashCode(elements) + interaction.hashCode();
+        Interaction[] grown = Arrays.copyOf(elements, Math.max(INITIAL_CAPACITY, size * 2));
+        Arrays.fill(grown, size, grown.length, null);
+        grown[size] = interaction;
+        Buffer newBuffer = new Buffer(grown);
+        newBuffer.used = size + 1;
+        return new InteractionHistory(newBuffer, size + 1, newHash);
+    }
+
+    /**
+     * Returns the most recent interaction, or null if the history is empty. This never loads a deferred history.
+     */
+    public Interaction getLastOrNull() {
+        if (size == 0) {
+            return null;
+        }
+        return deferred != null ? deferred.last : buffer.elements[size - 1];
+    }
+
+    @Override
+    public Interaction get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements()[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Interaction> iterator() {
+        // loads a deferred history once for the whole iteration rather than once per element
+        return Arrays.asList(elements()).subList(0, size).iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof InteractionHistory) {
+            InteractionHistory otherHistory = (InteractionHistory) other;
+            if (size != otherHistory.size || !Objects.equals(getLastOrNull(), otherHistory.getLastOrNull())) {
+                return false;
+            }
+            if (buffer != null && buffer == otherHistory.buffer) {
+                // two versions of the same length over one buffer hold the same elements
+                return true;
+            }
+            if (deferred != null && deferred == otherHistory.deferred) {
+                return true;
+            }
+            return hashCode() == otherHistory.hashCode()
+                    && Arrays.equals(elements(), 0, size, otherHistory.elements(), 0, size);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash != 0 ? hash : hashCode(elements());
+    }
+
+    /**
+     * Returns the hash code of this history, given an array whose first {@link #size} elements are its interactions.
+     */
+    private int hashCode(Interaction[] elements) {
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            for (int i = 0; i < size; i++) {
+                h = 31 * h + elements[i].hashCode();
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Returns an array whose first {@link #size} elements are the interactions of this history.
+     */
+    private Interaction[] elements() {
+        if (deferred == null) {
+            return buffer.elements;
+        }
+        Interaction[] loaded = deferred.loader.get();
+        if (loaded.length != size) {
+            throw new IllegalStateException(String.format(MESSAGE_WRONG_DEFERRED_SIZE, size, loaded.length));
+        }
+        return loaded;
+    }
+
+    /**
+     * Backing storage shared by successive versions of a history.
+     * Slots below {@code used} are never overwritten once claimed.
+     */
+    private static final class Buffer {
+        private final Interaction[] elements;
+        private int used;
+
+        private Buffer(Interaction[] elements) {
+            this.elements = elements;
+            this.used = elements.length;
+        }
+    }
+
+    /**
+     * What a deferred history holds instead of its interactions.
+     */
+    private static final class Deferred {
+        private final Interaction last;
+        private final Supplier<Interaction[]> loader;
+
+        private Deferred(Interaction last, Supplier<Interaction[]> loader) {
+            this.last = last;
+            this.loader = loader;
+        }
+    }
+}
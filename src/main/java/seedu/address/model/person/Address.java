@@ -25,11 +25,25 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, true);
+    }
+
+    private Address(String address, boolean isChecked) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        }
         value = address;
     }
 
+    /**
+     * Returns a {@code Address} of {@code address} without validating it, for values this app has already
+     * validated and written itself, e.g. when reading back its own unchanged data file.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, false);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
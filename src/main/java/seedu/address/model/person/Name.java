@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,15 +22,34 @@ public class Name {
 
     public final String fullName;
 
+    private final int hash;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        fullName = name.trim().replaceAll("\\s+", " ");
+        if (isChecked) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+            name = name.trim().replaceAll("\\s+", " ");
+        }
+        fullName = name;
+        // must agree with the case-insensitive equals so names can key hash-based indexes
+        hash = fullName.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    /**
+     * Returns a {@code Name} of {@code name} without validating or normalizing it, for names this app has already
+     * validated and written itself, e.g. when reading back its own unchanged data file.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
     }
 
     /**
@@ -56,16 +77,13 @@ public class Name {
 
         Name otherName = (Name) other;
 
-        // Normalize both names before comparing:
-        String thisNormalized = fullName.trim().replaceAll("\\s+", " ");
-        String otherNormalized = otherName.fullName.trim().replaceAll("\\s+", " ");
-
-        return thisNormalized.equalsIgnoreCase(otherNormalized);
+        // fullName is already whitespace-normalized by the constructor
+        return hash == otherName.hash && fullName.equalsIgnoreCase(otherName.fullName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return hash;
     }
 
 }
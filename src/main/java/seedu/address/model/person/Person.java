@@ -4,7 +4,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -13,6 +12,7 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.interaction.Interaction;
+import seedu.address.model.interaction.InteractionHistory;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -33,7 +33,10 @@ public class Person implements PersonReadOnly {
     private final Role role; // may be null if not provided
     private final Cadence cadence; // may be null if not provided
 
-    private final List<Interaction> interactions;
+    private final InteractionHistory interactions;
+
+    // Cached since all fields are immutable; also lets equals reject most mismatches without a deep comparison
+    private final int hash;
 
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         this(name, phone, email, address, tags, null, null, List.of());
@@ -63,9 +66,11 @@ public class Person implements PersonReadOnly {
         this.tags.addAll(tags);
         this.role = role; // allowed to be null for legacy callers
         this.cadence = cadence; // allowed to be null for legacy callers
-        // defensive copy + immutable view
-        this.interactions = Collections.unmodifiableList(
-            new ArrayList<>(interactions == null ? List.of() : interactions));
+        // immutable; an existing InteractionHistory is shared rather than copied
+        this.interactions = InteractionHistory.of(interactions == null ? List.of() : interactions);
+        // hashes a summary of the history so that a deferred history is not loaded just to build the person
+        this.hash = Objects.hash(name, phone, email, address, this.tags, role, cadence,
+                this.interactions.size(), this.interactions.getLastOrNull());
     }
 
     /** Copy-with constructor for updated interaction history. */
@@ -74,6 +79,11 @@ public class Person implements PersonReadOnly {
             base.role, base.cadence, newInteractions);
     }
 
+    /** Returns a copy of this person with {@code interaction} appended to the history, sharing the existing one. */
+    public Person withInteraction(Interaction interaction) {
+        return new Person(this, interactions.append(interaction));
+    }
+
     public Name getName() {
         return name;
     }
@@ -102,14 +112,14 @@ public class Person implements PersonReadOnly {
         return java.util.Optional.ofNullable(cadence);
     }
 
-    /** Immutable view of the interaction history (most recent at the end). */
-    public List<Interaction> getInteractions() {
+    /** Immutable interaction history (most recent at the end). */
+    public InteractionHistory getInteractions() {
         return interactions;
     }
 
     /** Last (most recent) interaction, or null if none exists. */
     public Interaction getLastInteractionOrNull() {
-        return interactions.isEmpty() ? null : interactions.get(interactions.size() - 1);
+        return interactions.getLastOrNull();
     }
 
     /** Predict next follow-up date (last interaction date + cadence). */
@@ -141,7 +151,8 @@ public class Person implements PersonReadOnly {
             return false;
         }
         Person o = (Person) other;
-        return name.equals(o.name)
+        return hash == o.hash
+            && name.equals(o.name)
             && phone.equals(o.phone)
             && email.equals(o.email)
             && address.equals(o.address)
@@ -153,7 +164,7 @@ public class Person implements PersonReadOnly {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, email, address, tags, role, cadence, interactions);
+        return hash;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
@@ -18,15 +20,33 @@ public class Role {
 
     public final String value;
 
+    private final int hash;
+
     /**
      * Constructs a {@code Role}.
      *
      * @param role A valid role string.
      */
     public Role(String role) {
+        this(role, true);
+    }
+
+    private Role(String role, boolean isChecked) {
         requireNonNull(role);
-        checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
-        value = capitalize(role.trim().toLowerCase());
+        if (isChecked) {
+            checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
+            role = capitalize(role.trim().toLowerCase());
+        }
+        value = role;
+        hash = value.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    /**
+     * Returns a {@code Role} of {@code role} without validating or normalizing it, for roles this app has already
+     * validated and written itself, e.g. when reading back its own unchanged data file.
+     */
+    public static Role ofTrusted(String role) {
+        return new Role(role, false);
     }
 
     /**
@@ -62,11 +82,11 @@ public class Role {
         }
 
         Role otherRole = (Role) other;
-        return value.equalsIgnoreCase(otherRole.value);
+        return hash == otherRole.hash && value.equalsIgnoreCase(otherRole.value);
     }
 
     @Override
     public int hashCode() {
-        return value.toLowerCase().hashCode();
+        return hash;
     }
 }
@@ -3,14 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.LazyObservableList;
+import seedu.address.model.util.PersistentObservableList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +26,72 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@link Name} to their position in the list, so that identity checks and
+ * target lookups do not need to scan the list. The index is kept in step with {@code internalList} by every
+ * mutating operation.
+ *
+ * Every mutating operation also gives the list a new modification version, so that callers such as storage can
+ * tell cheaply whether anything changed since they last looked.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    // versions are drawn from one counter so that no two lists, or two states of one list, share a version
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    private final ObservableList<Person> internalList;
+    private final ObservableList<Person> internalUnmodifiableList;
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+    private long version = lastVersion.incrementAndGet();
+
+    /**
+     * Creates an empty list backed by an array.
+     */
+    public UniquePersonList() {
+        this(new LazyObservableList<>());
+    }
+
+    private UniquePersonList(ObservableList<Person> internalList) {
+        this.internalList = internalList;
+        this.internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Creates an empty list backed by a {@link PersistentObservableList}, which makes {@link #snapshot()} O(1)
+     * at the cost of O(log n) element access.
+     */
+    public static UniquePersonList withPersistentStore() {
+        return new UniquePersonList(new PersistentObservableList<>());
+    }
+
+    /**
+     * Creates a list of persons with the given {@code names}, where the person at index {@code i} is only loaded by
+     * {@code loader.apply(i)} when first accessed. The loaded person must have the name at the same index.
+     *
+     * @throws DuplicatePersonException if two of the {@code names} are the same.
+     */
+    public static UniquePersonList deferred(List<Name> names, IntFunction<Person> loader) {
+        requireAllNonNull(names, loader);
+        Map<Name, Integer> index = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (index.putIfAbsent(names.get(i), i) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        UniquePersonList list = new UniquePersonList(LazyObservableList.deferred(names.size(), loader));
+        list.positionsByName.putAll(index);
+        return list;
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,7 +103,75 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positionsByName.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
+        markModified();
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, shifting later persons back.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+        markModified();
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list in order, firing a single change for all of them.
+     * None of the persons may already exist in the list or appear twice in {@code toAdd}; if any does, the list is
+     * left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Integer> added = indexByName(toAdd);
+        for (Name name : added.keySet()) {
+            if (positionsByName.containsKey(name)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int start = internalList.size();
+        added.forEach((name, position) -> positionsByName.put(name, start + position));
+        internalList.addAll(toAdd);
+        markModified();
+    }
+
+    /**
+     * Adds the persons of {@code toAdd} that are neither in the list nor earlier in {@code toAdd} to the end of the
+     * list in order, firing a single change for all of them. Each person is checked with one lookup in the index
+     * of the list, which holds the persons added so far as well.
+     *
+     * @return the persons added, in order.
+     */
+    public List<Person> addAllNew(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        int start = internalList.size();
+        List<Person> added = new ArrayList<>();
+        for (Person person : toAdd) {
+            if (positionsByName.putIfAbsent(person.getName(), start + added.size()) == null) {
+                added.add(person);
+            }
+        }
+
+        if (!added.isEmpty()) {
+            internalList.addAll(added);
+            markModified();
+        }
+        return added;
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain it.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return positionOf(person);
     }
 
     /**
@@ -57,7 +182,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,6 +192,9 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        positionsByName.remove(target.getName());
+        positionsByName.put(editedPerson.getName(), index);
+        markModified();
     }
 
     /**
@@ -75,14 +203,46 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        positionsByName.remove(toRemove.getName());
+        reindexFrom(index);
+        markModified();
+    }
+
+    /**
+     * Removes the last {@code count} persons from the list, firing a single change for all of them.
+     */
+    public void removeLast(int count) {
+        int from = internalList.size() - count;
+        if (count < 0 || from < 0) {
+            throw new IndexOutOfBoundsException("Cannot remove " + count + " of " + internalList.size() + " persons");
+        }
+        if (count == 0) {
+            return;
+        }
+
+        for (Person person : internalList.subList(from, internalList.size())) {
+            positionsByName.remove(person.getName());
+        }
+        internalList.remove(from, internalList.size());
+        markModified();
     }
 
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     * {@code replacement} is already unique, so its persons are not re-validated.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionsByName.clear();
+        positionsByName.putAll(replacement.positionsByName);
+        markModified();
     }
 
     /**
@@ -91,11 +251,49 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Integer> replacementIndex = indexByName(persons);
 
         internalList.setAll(persons);
+        positionsByName.clear();
+        positionsByName.putAll(replacementIndex);
+        markModified();
+    }
+
+    /**
+     * Sorts the list with {@code comparator}.
+     */
+    public void sort(Comparator<Person> comparator) {
+        FXCollections.sort(internalList, comparator);
+        reindexFrom(0);
+        markModified();
+    }
+
+    /**
+     * Returns the modification version of this list. It increases with every change to the list and is never
+     * shared with any other list, so an unchanged version means unchanged contents.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable copy of the current contents that is unaffected by later changes to this list.
+     * This is O(1) with a persistent store and O(n) otherwise.
+     */
+    public List<Person> snapshot() {
+        if (internalList instanceof PersistentObservableList) {
+            return ((PersistentObservableList<Person>) internalList).snapshot();
+        }
+        return ((LazyObservableList<Person>) internalList).snapshot();
+    }
+
+    /**
+     * Returns the index {@code loader} was given for the person at {@code index}, if that person was created by
+     * {@link #deferred(List, IntFunction)} with {@code loader} and not replaced since, or -1 otherwise.
+     * The person is not loaded.
+     */
+    public int getDeferredIndex(int index, IntFunction<Person> loader) {
+        return LazyObservableList.getDeferredIndex(internalList, index, loader);
     }
 
     /**
@@ -136,21 +334,43 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain a person equal to it.
+     * The candidate is found by name, so at most one {@code Person#equals(Object)} check is made.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int positionOf(Person person) {
+        Integer position = positionsByName.get(person.getName());
+        if (position == null || !internalList.get(position).equals(person)) {
+            return -1;
+        }
+        return position;
+    }
+
+    /**
+     * Refreshes the recorded positions of all persons from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns the position of each person in {@code persons} indexed by name, checking uniqueness in the same pass.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains two persons with the same identity.
+     */
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> index = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getName(), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 
-    public void sort(Comparator<Person> comparator) {
-        FXCollections.sort(internalList, comparator);
+    private void markModified() {
+        version = lastVersion.incrementAndGet();
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,15 +16,32 @@ public class Tag {
 
     public final String tagName;
 
+    private final int hash;
+
     /**
      * Constructs a {@code Tag}.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, true);
+    }
+
+    private Tag(String tagName, boolean isChecked) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
+        hash = tagName.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    /**
+     * Returns a {@code Tag} of {@code tagName} without validating it, for tag names this app has already
+     * validated and written itself, e.g. when reading back its own unchanged data file.
+     */
+    public static Tag ofTrusted(String tagName) {
+        return new Tag(tagName, false);
     }
 
     /**
@@ -44,12 +63,12 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equalsIgnoreCase(otherTag.tagName);
+        return hash == otherTag.hash && tagName.equalsIgnoreCase(otherTag.tagName);
     }
 
     @Override
     public int hashCode() {
-        return tagName.toLowerCase().hashCode();
+        return hash;
     }
 
     /**
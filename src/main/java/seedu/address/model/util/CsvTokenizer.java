@@ -0,0 +1,217 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits CSV text read from a {@link Reader} into records of cells, one record at a time.
+ * <p>
+ * The tokenizer is a quote-aware state machine over a reused {@code char[]} read buffer. A double quote starts or
+ * ends a quoted section anywhere in a cell, and two double quotes inside a quoted section stand for one. Delimiters
+ * and line breaks inside a quoted section belong to the cell, so a quoted cell may span several lines. Outside
+ * quoted sections, a record ends at {@code \n}, {@code \r} or {@code \r\n}. A quoted section still open at the end
+ * of the text is an error, rather than a cell holding the rest of the text.
+ * <p>
+ * Each cell is handed to a {@link CellConsumer} as a view of a single cell buffer that is reused for every cell, so
+ * tokenizing allocates nothing per cell or per record beyond what the consumer keeps.
+ */
+public class CsvTokenizer {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "The quoted cell starting on line %d is never closed.";
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_CELL_CAPACITY = 64;
+
+    /**
+     * Receives the cells of a record in order.
+     */
+    @FunctionalInterface
+    public interface CellConsumer {
+        /**
+         * Accepts the cell at {@code column} of the current record, held in the first {@code length} chars of
+         * {@code chars}. The array is reused for the next cell, so it must not be kept.
+         */
+        void accept(int column, char[] chars, int length);
+    }
+
+    private enum State {
+        START_OF_RECORD, UNQUOTED, QUOTED, QUOTE_IN_QUOTED, AFTER_CR
+    }
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private char[] cell = new char[INITIAL_CELL_CAPACITY];
+    private int cellLength;
+    private State state = State.START_OF_RECORD;
+    private int lineNumber;
+    private int recordLineNumber;
+    private int quoteLineNumber;
+
+    /**
+     * Creates a tokenizer of the text of {@code reader}, whose first line is line {@code firstLineNumber}.
+     */
+    public CsvTokenizer(Reader reader, char delimiter, int firstLineNumber) {
+        this(reader, delimiter, firstLineNumber, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a tokenizer that reads {@code bufferSize} chars at a time.
+     */
+    CsvTokenizer(Reader reader, char delimiter, int firstLineNumber, int bufferSize) {
+        requireNonNull(reader);
+        checkArgument(delimiter != '"' && delimiter != '\n' && delimiter != '\r', "Invalid delimiter.");
+        checkArgument(bufferSize > 0, "Buffer size must be positive.");
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.buffer = new char[bufferSize];
+        this.lineNumber = firstLineNumber;
+    }
+
+    /**
+     * Returns the cells of {@code line} split at {@code delimiter}, treating the whole string as one record.
+     *
+     * @throws IllegalArgumentException if a quoted section in {@code line} is never closed.
+     */
+    public static List<String> split(String line, char delimiter) {
+        requireNonNull(line);
+        List<String> cells = new ArrayList<>();
+        try {
+            CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(line), delimiter, 1,
+                    Math.max(1, line.length()));
+            if (!tokenizer.readRecord((column, chars, length) -> cells.add(new String(chars, 0, length)))) {
+                cells.add("");
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe); // a StringReader does not throw
+        }
+        return cells;
+    }
+
+    /**
+     * Reads the next record, handing its cells to {@code consumer} in order.
+     * A record always has at least one cell, which is empty for an empty line.
+     *
+     * @return false if there were no more records.
+     * @throws IOException if reading failed.
+     * @throws IllegalArgumentException if the text ended inside a quoted section.
+     */
+    public boolean readRecord(CellConsumer consumer) throws IOException {
+        requireNonNull(consumer);
+        int column = 0;
+        boolean hasChars = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                if (!hasChars) {
+                    return false;
+                }
+                if (state == State.QUOTED) {
+                    throw new IllegalArgumentException(String.format(MESSAGE_UNTERMINATED_QUOTE, quoteLineNumber));
+                }
+                // the text ended without a line break
+                consumer.accept(column, cell, cellLength);
+                cellLength = 0;
+                state = State.START_OF_RECORD;
+                return true;
+            }
+
+            char c = buffer[position++];
+            if (state == State.AFTER_CR) {
+                state = State.START_OF_RECORD;
+                if (c == '\n') {
+                    continue; // the rest of a \r\n line break
+                }
+            }
+            if (!hasChars) {
+                hasChars = true;
+                recordLineNumber = lineNumber;
+                state = State.UNQUOTED;
+            }
+
+            switch (state) {
+            case QUOTED:
+                if (c == '"') {
+                    state = State.QUOTE_IN_QUOTED;
+                } else {
+                    countLineBreak(c);
+                    append(c);
+                }
+                continue;
+            case QUOTE_IN_QUOTED:
+                if (c == '"') {
+                    // two quotes in a quoted section stand for one
+                    append(c);
+                    state = State.QUOTED;
+                    continue;
+                }
+                state = State.UNQUOTED;
+                break;
+            default:
+                break;
+            }
+
+            // the state is UNQUOTED here
+            if (c == '"') {
+                state = State.QUOTED;
+                quoteLineNumber = lineNumber;
+            } else if (c == delimiter) {
+                consumer.accept(column++, cell, cellLength);
+                cellLength = 0;
+            } else if (c == '\n' || c == '\r') {
+                lineNumber++;
+                consumer.accept(column, cell, cellLength);
+                cellLength = 0;
+                state = c == '\r' ? State.AFTER_CR : State.START_OF_RECORD;
+                return true;
+            } else {
+                append(c);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the line on which the record last read started.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        while (read == 0) {
+            read = reader.read(buffer, 0, buffer.length);
+        }
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    /**
+     * Counts a line break inside a quoted section, treating {@code \r\n} as one.
+     */
+    private void countLineBreak(char c) {
+        if (c == '\n' && cellLength > 0 && cell[cellLength - 1] == '\r') {
+            return;
+        }
+        if (c == '\n' || c == '\r') {
+            lineNumber++;
+        }
+    }
+
+    private void append(char c) {
+        if (cellLength == cell.length) {
+            cell = Arrays.copyOf(cell, cell.length * 2);
+        }
+        cell[cellLength++] = c;
+    }
+}
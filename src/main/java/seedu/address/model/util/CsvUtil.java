@@ -5,12 +5,19 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -63,6 +70,10 @@ public class CsvUtil {
 
     private static final int IDX_MISSING = -1;
 
+    /** Number of rows parsed per task when importing. */
+    private static final int IMPORT_BATCH_SIZE = 1024;
+    private static final int MAX_BATCHES_IN_FLIGHT = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+
     /** Holds mapped column indices for known headers. Unknown columns are ignored. */
     private static final class HeaderIndex {
         private int name = IDX_MISSING;
@@ -80,8 +91,8 @@ public class CsvUtil {
      * <p>
      * This method ensures the file exists, detects the delimiter automatically,
      * validates the header row (must contain at least Name, Role, Address, Phone, and Email),
-     * and skips malformed rows with warnings. Each valid row is converted into a
-     * {@link Person} object using {@link CsvUtil#readRows(java.io.BufferedReader, char, HeaderIndex)}.
+     * and skips malformed rows with warnings. Rows are parsed as described in
+     * {@link #readPersonsFromCsv(Path, Consumer)}.
      * <p>
      * Logs progress and statistics about parsed entries for debugging and traceability.
      *
@@ -91,9 +102,31 @@ public class CsvUtil {
      * @throws IllegalArgumentException if the CSV is missing a valid header row or is malformed
      */
     public static List<Person> readPersonsFromCsv(Path filePath) throws IOException {
+        List<Person> persons = new ArrayList<>();
+        readPersonsFromCsv(filePath, persons::addAll);
+        return persons;
+    }
+
+    /**
+     * Reads and parses all valid {@link Person} entries from a CSV file, handing them to {@code committer} in
+     * batches as they are parsed.
+     * <p>
+     * The import runs as a pipeline: the calling thread reads the rows in batches, the batches are split and
+     * validated in parallel on the common fork-join pool, and {@code committer} is given the valid persons of each
+     * batch on the calling thread, in file order. Only a few batches are parsed at a time, so a slow committer holds
+     * back reading instead of letting parsed rows pile up in memory. The time spent in each stage is logged.
+     *
+     * @param filePath path to the CSV file to be read (must not be null and must exist)
+     * @param committer receives the valid persons of each batch of rows, in file order
+     * @throws IOException              if an I/O error occurs during reading
+     * @throws IllegalArgumentException if the CSV is missing a valid header row or is malformed
+     */
+    public static void readPersonsFromCsv(Path filePath, Consumer<List<Person>> committer) throws IOException {
         requireNonNull(filePath);
+        requireNonNull(committer);
         assert Files.exists(filePath) : "CSV file path must exist before reading.";
 
+        long startNanos = System.nanoTime();
         try (var br = Files.newBufferedReader(filePath)) {
             HeaderInfo hdr = findHeader(br);
             if (hdr == null) {
@@ -105,9 +138,17 @@ public class CsvUtil {
             HeaderIndex hi = mapHeader(hdr.headerCells);
             requireMandatory(hi);
 
-            List<Person> persons = readRows(br, hdr.detectedDelim, hi);
-            logger.info("Parsed " + persons.size() + " valid contacts from CSV: " + filePath);
-            return persons;
+            ImportPipeline pipeline = new ImportPipeline(hdr.detectedDelim, hi, committer);
+            readRows(br, hdr.detectedDelim, hdr.lineNo, pipeline);
+            pipeline.finish();
+
+            long totalNanos = System.nanoTime() - startNanos;
+            logger.info(String.format("Parsed %d valid contacts from %d rows of CSV %s in %d ms: reading %d ms, "
+                            + "parsing %d ms summed over %d workers (%d ms spent waiting for them), committing %d ms",
+                    pipeline.personCount, pipeline.rowCount, filePath, toMillis(totalNanos),
+                    toMillis(totalNanos - pipeline.waitNanos - pipeline.commitNanos), toMillis(pipeline.parseNanos),
+                    ForkJoinPool.getCommonPoolParallelism(), toMillis(pipeline.waitNanos),
+                    toMillis(pipeline.commitNanos)));
         } catch (IOException ioe) {
             logger.log(Level.SEVERE, "Failed to read CSV file: " + filePath, ioe);
             throw ioe;
@@ -118,13 +159,15 @@ public class CsvUtil {
     private static final class HeaderInfo {
         final char detectedDelim;
         final List<String> headerCells;
-        HeaderInfo(char d, List<String> h) {
+        final int lineNo;
+        HeaderInfo(char d, List<String> h, int lineNo) {
             this.detectedDelim = d;
             this.headerCells = h;
+            this.lineNo = lineNo;
         }
     }
 
-    /** Scans until a header-like line is found; returns null if none. */
+    /** Scans until a header-like line is found, skipping lines that cannot be split; returns null if none. */
     private static HeaderInfo findHeader(java.io.BufferedReader br) throws IOException {
         String line;
         int lineNo = 0;
@@ -135,10 +178,15 @@ public class CsvUtil {
             }
             String candidate = line.replace("\uFEFF", "");
             char delim = detectDelimiter(candidate);
-            List<String> cells = splitCsvLine(candidate, delim);
+            List<String> cells;
+            try {
+                cells = CsvTokenizer.split(candidate, delim);
+            } catch (IllegalArgumentException e) {
+                continue; // an unclosed quote, so not a header
+            }
             if (looksLikeHeader(cells)) {
                 logger.info("Detected CSV header at line " + lineNo + " using delimiter '" + delim + "'");
-                return new HeaderInfo(delim, cells);
+                return new HeaderInfo(delim, cells, lineNo);
             }
         }
         return null;
@@ -197,30 +245,128 @@ public class CsvUtil {
         }
     }
 
-    /** Reads remaining lines as rows and converts each to Person, skipping blanks/bad rows with warnings. */
-    private static List<Person> readRows(java.io.BufferedReader br, char delim, HeaderIndex hi) throws IOException {
-        List<Person> persons = new ArrayList<>();
-        String raw;
-        int lineNo = 1;
-        while ((raw = br.readLine()) != null) {
-            lineNo++;
-            if (raw.trim().isEmpty()) {
-                continue;
+    /**
+     * Splits the text after the header at {@code headerLineNo} into rows, skipping blank rows, and hands them to
+     * {@code pipeline} in batches. A quoted cell may span several lines.
+     */
+    private static void readRows(java.io.BufferedReader br, char delim, int headerLineNo, ImportPipeline pipeline)
+            throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(br, delim, headerLineNo + 1);
+        List<String> cells = new ArrayList<>();
+        CsvTokenizer.CellConsumer addCell = (column, chars, length) -> cells.add(new String(chars, 0, length));
+        RowBatch batch = new RowBatch();
+        while (tokenizer.readRecord(addCell)) {
+            if (!isBlankRow(cells)) {
+                batch.add(tokenizer.getRecordLineNumber(), cells.toArray(new String[0]));
             }
-            List<String> cells = splitCsvLine(raw, delim);
-            if (isBlankRow(cells)) {
-                continue;
+            cells.clear();
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                pipeline.submit(batch);
+                batch = new RowBatch();
             }
+        }
+        pipeline.submit(batch);
+    }
+
+    /** Converts each row of {@code batch} to Person, skipping bad rows with warnings. */
+    private static ParsedBatch parseRows(RowBatch batch, char delim, HeaderIndex hi) {
+        long startNanos = System.nanoTime();
+        List<Person> persons = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            List<String> cells = Arrays.asList(batch.rows.get(i));
             try {
                 persons.add(parsePersonByHeader(cells, hi));
             } catch (IllegalArgumentException e) {
+                String raw = String.join(String.valueOf(delim), cells);
                 logger.log(Level.WARNING,
-                        String.format("Skipping malformed row %d: %s (%s)", lineNo, raw, e.getMessage()));
+                        String.format("Skipping malformed row %d: %s (%s)", batch.lineNos[i], raw, e.getMessage()));
             }
         }
-        return persons;
+        return new ParsedBatch(persons, System.nanoTime() - startNanos);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /** Cells of consecutive non-blank rows, with the line numbers the rows start on in the file. */
+    private static final class RowBatch {
+        private final List<String[]> rows = new ArrayList<>(IMPORT_BATCH_SIZE);
+        private final int[] lineNos = new int[IMPORT_BATCH_SIZE];
+
+        void add(int lineNo, String[] cells) {
+            lineNos[rows.size()] = lineNo;
+            rows.add(cells);
+        }
+
+        int size() {
+            return rows.size();
+        }
     }
 
+    /** The valid persons of one batch, and how long parsing it took. */
+    private static final class ParsedBatch {
+        private final List<Person> persons;
+        private final long parseNanos;
+
+        ParsedBatch(List<Person> persons, long parseNanos) {
+            this.persons = persons;
+            this.parseNanos = parseNanos;
+        }
+    }
+
+    /**
+     * Parses batches of rows on the common fork-join pool, one batch per task, and commits them in the order they
+     * were submitted. Only a few batches are parsed at a time. Not thread-safe: only the reading thread may use it,
+     * and it is also the thread batches are committed on.
+     */
+    private static final class ImportPipeline {
+        private final char delim;
+        private final HeaderIndex hi;
+        private final Consumer<List<Person>> committer;
+        private final Deque<ForkJoinTask<ParsedBatch>> inFlight = new ArrayDeque<>();
+        private int rowCount;
+        private int personCount;
+        private long parseNanos;
+        private long waitNanos;
+        private long commitNanos;
+
+        ImportPipeline(char delim, HeaderIndex hi, Consumer<List<Person>> committer) {
+            this.delim = delim;
+            this.hi = hi;
+            this.committer = committer;
+        }
+
+        /** Starts parsing {@code batch}, which must not change afterwards. */
+        void submit(RowBatch batch) {
+            if (batch.size() == 0) {
+                return;
+            }
+            rowCount += batch.size();
+            inFlight.add(ForkJoinPool.commonPool().submit(() -> parseRows(batch, delim, hi)));
+            while (inFlight.size() > MAX_BATCHES_IN_FLIGHT) {
+                commit(inFlight.remove());
+            }
+        }
+
+        /** Waits for all batches to be parsed and commits them. */
+        void finish() {
+            while (!inFlight.isEmpty()) {
+                commit(inFlight.remove());
+            }
+        }
+
+        private void commit(ForkJoinTask<ParsedBatch> task) {
+            long startNanos = System.nanoTime();
+            ParsedBatch parsed = task.join();
+            long parsedNanos = System.nanoTime();
+            committer.accept(parsed.persons);
+            waitNanos += parsedNanos - startNanos;
+            commitNanos += System.nanoTime() - parsedNanos;
+            parseNanos += parsed.parseNanos;
+            personCount += parsed.persons.size();
+        }
+    }
 
     private static Person parsePersonByHeader(List<String> cells, HeaderIndex hi) {
         String nameStr = norm(getCell(cells, hi.name));
@@ -379,12 +525,21 @@ public class CsvUtil {
     }
 
 
-    /** Detects delimiter from a line (comma/tab/semicolon). */
+    /** Detects delimiter from a line (comma/tab/semicolon), counting all three in one pass. */
     private static char detectDelimiter(String line) {
-        String h = line == null ? "" : line.replace("\uFEFF", "");
-        int commas = h.split(",", -1).length - 1;
-        int tabs = h.split("\t", -1).length - 1;
-        int semis = h.split(";", -1).length - 1;
+        int commas = 0;
+        int tabs = 0;
+        int semis = 0;
+        for (int i = 0; line != null && i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == ',') {
+                commas++;
+            } else if (ch == '\t') {
+                tabs++;
+            } else if (ch == ';') {
+                semis++;
+            }
+        }
         if (tabs > commas && tabs > semis) {
             return '\t';
         }
@@ -394,48 +549,6 @@ public class CsvUtil {
         return ',';
     }
 
-    /** Quote-aware split using a specific delimiter. Doubled quotes => literal quote. */
-    private static List<String> splitCsvLine(String line, char delim) {
-        List<String> out = new ArrayList<>();
-        if (line == null) {
-            out.add("");
-            return out;
-        }
-        StringBuilder cur = new StringBuilder();
-        boolean inQuotes = false;
-        for (int i = 0; i < line.length(); i++) {
-            char ch = line.charAt(i);
-            if (ch == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    cur.append('"');
-                    i++;
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (ch == delim && !inQuotes) {
-                out.add(cur.toString());
-                cur.setLength(0);
-            } else {
-                cur.append(ch);
-            }
-        }
-        out.add(cur.toString());
-        int last = out.size() - 1;
-        if (last >= 0) {
-            String lastCell = out.get(last);
-            if (!lastCell.isEmpty() && lastCell.charAt(lastCell.length() - 1) == '\r') {
-                out.set(last, lastCell.substring(0, lastCell.length() - 1));
-            }
-        }
-        return out;
-    }
-
-
-    /** Legacy wrapper (default to comma). */
-    private static List<String> splitCsvLine(String line) {
-        return splitCsvLine(line, DELIM);
-    }
-
     /**
      * Escapes a string for CSV output.
      * <ul>
@@ -0,0 +1,286 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of an {@code ObservableList} that match a predicate, like {@code FilteredList}, that
+ * does not look at the elements of its source while it has no predicate.
+ * <p>
+ * {@code FilteredList} gets every element its source adds in order to test it, even when it has no predicate,
+ * which loads every element added to a {@link LazyObservableList}. Without a predicate, this view instead shows
+ * every element of its source at the same index and passes the changes of its source on as they are, so only the
+ * elements a listener looks at are loaded. With a predicate, it tests elements as {@code FilteredList} does.
+ *
+ * @param <E> type of the elements
+ */
+public class LazyFilteredList<E> extends TransformationList<E, E> {
+
+    private Predicate<? super E> predicate; // null if every element is shown
+
+    // Source indices of the elements shown, in ascending order; only used while there is a predicate
+    private int[] filtered = new int[0];
+    private int size;
+
+    /**
+     * Creates a view showing every element of {@code source}.
+     */
+    public LazyFilteredList(ObservableList<E> source) {
+        super(source);
+    }
+
+    /**
+     * Returns the predicate elements must match to be shown, or null if every element is shown.
+     */
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the elements of the source that match {@code predicate}, or every element if it is null.
+     * Setting a predicate tests every element of the source.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        if (predicate == null && this.predicate == null) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(this);
+        this.predicate = predicate;
+        if (predicate != null) {
+            refilter();
+        }
+
+        beginChange();
+        try {
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return predicate == null ? getSource().size() : size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (predicate == null) {
+            return index;
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (predicate == null) {
+            return index;
+        }
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, index);
+        return viewIndex >= 0 ? viewIndex : -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (predicate == null) {
+            fireChange(new ForwardedChange<>(this, (ListChangeListener.Change<E>) change));
+            return;
+        }
+
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    permute(change);
+                } else if (change.wasUpdated()) {
+                    update(change);
+                } else {
+                    addRemove(change);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void refilter() {
+        ObservableList<? extends E> source = getSource();
+        filtered = new int[source.size()];
+        size = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                filtered[size++] = i;
+            }
+        }
+    }
+
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        int from = lowerBound(change.getFrom());
+        int to = lowerBound(change.getTo());
+        if (from == to) {
+            return;
+        }
+        int[] oldIndices = Arrays.copyOfRange(filtered, from, to);
+        for (int i = from; i < to; i++) {
+            filtered[i] = change.getPermutation(filtered[i]);
+        }
+        Arrays.sort(filtered, from, to);
+
+        int[] permutation = new int[to - from];
+        for (int i = 0; i < oldIndices.length; i++) {
+            permutation[i] = Arrays.binarySearch(filtered, from, to, change.getPermutation(oldIndices[i]));
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    private void update(ListChangeListener.Change<? extends E> change) {
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            E element = getSource().get(i);
+            int viewIndex = Arrays.binarySearch(filtered, 0, size, i);
+            boolean isMatch = predicate.test(element);
+            if (viewIndex >= 0 && isMatch) {
+                nextUpdate(viewIndex);
+            } else if (viewIndex >= 0) {
+                removeShown(viewIndex, viewIndex + 1);
+                nextRemove(viewIndex, element);
+            } else if (isMatch) {
+                int insertAt = -viewIndex - 1;
+                insert(insertAt, i);
+                nextAdd(insertAt, insertAt + 1);
+            }
+        }
+    }
+
+    private void addRemove(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int viewFrom = lowerBound(from);
+        if (change.wasRemoved()) {
+            int viewTo = lowerBound(from + change.getRemovedSize());
+            if (viewTo > viewFrom) {
+                List<E> removed = new ArrayList<>(viewTo - viewFrom);
+                for (int i = viewFrom; i < viewTo; i++) {
+                    removed.add(change.getRemoved().get(filtered[i] - from));
+                }
+                removeShown(viewFrom, viewTo);
+                nextRemove(viewFrom, removed);
+            }
+            shift(viewFrom, -change.getRemovedSize());
+        }
+        if (change.wasAdded()) {
+            shift(viewFrom, change.getAddedSize());
+            int insertAt = viewFrom;
+            for (int i = from; i < change.getTo(); i++) {
+                if (predicate.test(getSource().get(i))) {
+                    insert(insertAt++, i);
+                }
+            }
+            if (insertAt > viewFrom) {
+                nextAdd(viewFrom, insertAt);
+            }
+        }
+    }
+
+    /**
+     * Returns the first view index whose source index is at least {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return viewIndex >= 0 ? viewIndex : -viewIndex - 1;
+    }
+
+    private void shift(int from, int delta) {
+        for (int i = from; i < size; i++) {
+            filtered[i] += delta;
+        }
+    }
+
+    private void insert(int viewIndex, int sourceIndex) {
+        if (size == filtered.length) {
+            filtered = Arrays.copyOf(filtered, Math.max(16, size * 2));
+        }
+        System.arraycopy(filtered, viewIndex, filtered, viewIndex + 1, size - viewIndex);
+        filtered[viewIndex] = sourceIndex;
+        size++;
+    }
+
+    private void removeShown(int from, int to) {
+        System.arraycopy(filtered, to, filtered, from, size - to);
+        size -= to - from;
+    }
+
+    /**
+     * A change of the source passed on as a change of this view, which shows the source's elements at the same
+     * indices. Nothing about the change is copied, so no element is loaded unless a listener looks at it.
+     */
+    private static class ForwardedChange<E> extends ListChangeListener.Change<E> {
+        private final ListChangeListener.Change<E> change;
+
+        ForwardedChange(ObservableList<E> list, ListChangeListener.Change<E> change) {
+            super(list);
+            this.change = change;
+        }
+
+        @Override
+        public boolean next() {
+            return change.next();
+        }
+
+        @Override
+        public void reset() {
+            change.reset();
+        }
+
+        @Override
+        public int getFrom() {
+            return change.getFrom();
+        }
+
+        @Override
+        public int getTo() {
+            return change.getTo();
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            return Collections.unmodifiableList(change.getRemoved());
+        }
+
+        @Override
+        public boolean wasUpdated() {
+            return change.wasUpdated();
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            if (!change.wasPermutated()) {
+                return new int[0];
+            }
+            int[] permutation = new int[getTo() - getFrom()];
+            for (int i = 0; i < permutation.length; i++) {
+                permutation[i] = change.getPermutation(getFrom() + i);
+            }
+            return permutation;
+        }
+    }
+}
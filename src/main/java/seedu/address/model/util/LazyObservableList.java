@@ -0,0 +1,289 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+
+/**
+ * A modifiable, array-backed {@code ObservableList} whose elements may be loaded only when first accessed.
+ * <p>
+ * It behaves like {@code FXCollections.observableArrayList()} to its listeners. Elements added through
+ * {@link #deferred(int, IntFunction)} are loaded on the first {@link #get(int)} that reaches them, so a list that
+ * is only partly shown or searched never loads the rest. Copying a lazy list with {@link #setAll(Collection)} or
+ * {@link #snapshot()} shares the elements not loaded yet instead of loading them, and an element is loaded at most
+ * once however many copies share it.
+ *
+ * @param <E> type of the elements, which must not be null
+ */
+public class LazyObservableList<E> extends ModifiableObservableListBase<E> {
+
+    // Each slot holds either an element or a Deferred that loads it
+    private final ArrayList<Object> slots;
+
+    public LazyObservableList() {
+        slots = new ArrayList<>();
+    }
+
+    private LazyObservableList(ArrayList<Object> slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Returns a list of {@code size} elements, where the element at index {@code i} is
+     * {@code loader.apply(i)}. {@code loader} is called at most once per index, on the first access to that
+     * element from this list or any copy of it, and possibly from another thread if a snapshot is handed over.
+     */
+    public static <E> LazyObservableList<E> deferred(int size, IntFunction<? extends E> loader) {
+        requireNonNull(loader);
+        ArrayList<Object> slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new Deferred<>(loader, i));
+        }
+        return new LazyObservableList<>(slots);
+    }
+
+    /**
+     * Returns an immutable copy of the current contents that is unaffected by later changes to this list.
+     * Elements not loaded yet are shared with this list rather than loaded.
+     */
+    public List<E> snapshot() {
+        return view(slots.toArray());
+    }
+
+    /**
+     * Returns the index that {@code loader} was given for the element at {@code index} of {@code list}, if
+     * {@code list} is a lazy list or a snapshot of one and that element was added by
+     * {@link #deferred(int, IntFunction)} with {@code loader} and not replaced since, or -1 otherwise.
+     * The element is not loaded.
+     */
+    public static int getDeferredIndex(List<?> list, int index, IntFunction<?> loader) {
+        Object slot;
+        if (list instanceof LazyObservableList) {
+            slot = ((LazyObservableList<?>) list).slots.get(index);
+        } else if (list instanceof SnapshotView) {
+            slot = ((SnapshotView<?>) list).slots[index];
+        } else {
+            return -1;
+        }
+        if (!(slot instanceof Deferred) || ((Deferred<?>) slot).loader != loader) {
+            return -1;
+        }
+        return ((Deferred<?>) slot).index;
+    }
+
+    /**
+     * Returns the number of elements that have not been loaded yet.
+     */
+    public int countDeferred() {
+        int count = 0;
+        for (Object slot : slots) {
+            if (slot instanceof Deferred && !((Deferred<?>) slot).isLoaded()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public E get(int index) {
+        Object slot = slots.get(index);
+        if (!(slot instanceof Deferred)) {
+            @SuppressWarnings("unchecked")
+            E element = (E) slot;
+            return element;
+        }
+        E element = resolve(slot);
+        slots.set(index, element);
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        requireNonNull(element);
+        slots.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        requireNonNull(element);
+        E old = get(index);
+        slots.set(index, element);
+        return old;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E old = get(index);
+        slots.remove(index);
+        return old;
+    }
+
+    /**
+     * Removes the elements from {@code from} to {@code to}, exclusive, firing a single remove change.
+     * The backing array is shifted once for the whole range rather than once per element, and the removed elements
+     * are only loaded if a listener looks at them.
+     */
+    @Override
+    public void remove(int from, int to) {
+        List<Object> removedSlots = slots.subList(from, to);
+        List<E> removed = view(removedSlots.toArray());
+        removedSlots.clear();
+        if (!removed.isEmpty()) {
+            fireChange(new RangeChange<>(this, from, from, removed));
+        }
+    }
+
+    /**
+     * Replaces the whole contents, firing a single replace change.
+     * The elements of another lazy list are copied unloaded, and the removed elements are only loaded if a listener
+     * looks at them.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        List<E> old = view(slots.toArray());
+        List<Object> replacement = new ArrayList<>(elements instanceof LazyObservableList
+                ? ((LazyObservableList<?>) elements).slots
+                : elements);
+        slots.clear();
+        slots.addAll(replacement);
+        if (!old.isEmpty() || !slots.isEmpty()) {
+            fireChange(new RangeChange<>(this, 0, slots.size(), old));
+        }
+        return true;
+    }
+
+    /**
+     * Returns an immutable list of the elements in {@code slots}, each loaded on first access.
+     */
+    private static <E> List<E> view(Object[] slots) {
+        return new SnapshotView<>(slots);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E resolve(Object slot) {
+        return slot instanceof Deferred ? ((Deferred<E>) slot).get() : (E) slot;
+    }
+
+    /**
+     * An immutable list over a copy of the slots of a lazy list.
+     */
+    private static class SnapshotView<E> extends AbstractList<E> {
+        private final Object[] slots;
+
+        SnapshotView(Object[] slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public E get(int index) {
+            return resolve(slots[index]);
+        }
+
+        @Override
+        public int size() {
+            return slots.length;
+        }
+    }
+
+    /**
+     * A single change that replaces the elements {@code removed} at {@code from} with the elements from {@code from}
+     * to {@code to}, exclusive. Unlike the changes built by {@code beginChange()}, it does not copy the removed
+     * elements, which would load them all.
+     */
+    private static class RangeChange<E> extends ListChangeListener.Change<E> {
+        private final int from;
+        private final int to;
+        private final List<E> removed;
+        private int cursor = -1;
+
+        RangeChange(ObservableList<E> list, int from, int to, List<E> removed) {
+            super(list);
+            this.from = from;
+            this.to = to;
+            this.removed = removed;
+        }
+
+        @Override
+        public boolean next() {
+            cursor++;
+            return cursor == 0;
+        }
+
+        @Override
+        public void reset() {
+            cursor = -1;
+        }
+
+        @Override
+        public int getFrom() {
+            checkState();
+            return from;
+        }
+
+        @Override
+        public int getTo() {
+            checkState();
+            return to;
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            checkState();
+            return removed;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            checkState();
+            return new int[0];
+        }
+
+        private void checkState() {
+            if (cursor != 0) {
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting it.");
+            }
+        }
+    }
+
+    /**
+     * An element that is loaded on first use and then remembered.
+     * Loading twice on a race between threads is harmless, as loading the same index gives equal elements.
+     */
+    private static class Deferred<E> {
+        private final IntFunction<? extends E> loader;
+        private final int index;
+        private volatile E element;
+
+        Deferred(IntFunction<? extends E> loader, int index) {
+            this.loader = loader;
+            this.index = index;
+        }
+
+        boolean isLoaded() {
+            return element != null;
+        }
+
+        E get() {
+            E loaded = element;
+            if (loaded == null) {
+                loaded = requireNonNull(loader.apply(index));
+                element = loaded;
+            }
+            return loaded;
+        }
+    }
+}
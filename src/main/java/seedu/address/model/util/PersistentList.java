@@ -0,0 +1,266 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list with structural sharing, backed by a size-annotated AVL tree.
+ * <p>
+ * Every update returns a new list and leaves this one untouched. Only the O(log n) nodes on the path to the
+ * changed position are copied; the rest of the tree is shared between versions, so keeping an old version
+ * around (a snapshot) costs nothing until the versions diverge.
+ *
+ * @param <E> type of the elements, which must not be null
+ */
+public final class PersistentList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements} in iteration order, built in O(n).
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> set(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(setNode(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements back.
+     */
+    public PersistentList<E> insert(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insertNode(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(removeNode(root, index));
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this version.
+     */
+    public List<E> asList() {
+        return new AbstractList<>() {
+            @Override
+            public E get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                return new InOrderIterator<>(root);
+            }
+        };
+    }
+
+    //// tree operations
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements[mid], build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> setNode(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, setNode(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, setNode(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <E> Node<E> insertNode(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insertNode(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insertNode(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> removeNode(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeNode(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, removeNode(node.right, index - leftSize - 1));
+        }
+
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        // replace with the first element of the right subtree
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, removeNode(node.right, 0));
+    }
+
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int diff = heightOf(left) - heightOf(right);
+        if (diff > 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                left = rotateLeft(left.value, left.left, left.right);
+            }
+            return rotateRight(value, left, right);
+        }
+        if (diff < -1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                right = rotateRight(right.value, right.left, right.right);
+            }
+            return rotateLeft(value, left, right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static <E> Node<E> rotateRight(E value, Node<E> left, Node<E> right) {
+        return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+    }
+
+    private static <E> Node<E> rotateLeft(E value, Node<E> left, Node<E> right) {
+        return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    /**
+     * An immutable tree node. Subtrees are shared freely between list versions.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates the elements of a tree in order in O(n) total.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node<E> root) {
+            pushLeftEdge(root);
+        }
+
+        private void pushLeftEdge(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftEdge(node.right);
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * A modifiable {@code ObservableList} whose contents live in a {@link PersistentList}.
+ * <p>
+ * It behaves like {@code FXCollections.observableArrayList()} to its listeners, but {@link #snapshot()} is O(1)
+ * and each single-element update copies only O(log n) tree nodes, so earlier snapshots stay valid and cheap to keep.
+ * Element access is O(log n) instead of O(1).
+ *
+ * @param <E> type of the elements, which must not be null
+ */
+public class PersistentObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private PersistentList<E> items = PersistentList.empty();
+
+    /**
+     * Returns an immutable view of the current contents that is unaffected by later changes to this list.
+     */
+    public List<E> snapshot() {
+        return items.asList();
+    }
+
+    @Override
+    public E get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        items = items.insert(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E old = items.get(index);
+        items = items.set(index, element);
+        return old;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E old = items.get(index);
+        items = items.remove(index);
+        return old;
+    }
+
+    /**
+     * Replaces the whole contents in O(n), firing a single replace change.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        PersistentList<E> old = items;
+        PersistentList<E> replacement = PersistentList.of(elements);
+        beginChange();
+        try {
+            items = replacement;
+            if (old.size() > 0 || replacement.size() > 0) {
+                nextReplace(0, replacement.size(), old.asList());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+}
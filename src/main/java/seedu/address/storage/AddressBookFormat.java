@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.core.Version;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * The file formats the address book can be stored in, told apart by file extension.
+ */
+public enum AddressBookFormat {
+    JSON(AddressBookFormat::createJsonStorage),
+    BINARY((filePath, userPrefs, appVersion) -> new BinaryAddressBookStorage(filePath,
+            userPrefs.isLazyPersonLoadingEnabled(), userPrefs.isLazyInteractionLoadingEnabled()));
+
+    public static final String BINARY_EXTENSION = ".bin";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "No address book found at %s.";
+
+    private final StorageFactory storageFactory;
+
+    AddressBookFormat(StorageFactory storageFactory) {
+        this.storageFactory = storageFactory;
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}: binary if it ends with {@link #BINARY_EXTENSION},
+     * JSON otherwise.
+     */
+    public static AddressBookFormat of(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.getFileName().toString().endsWith(BINARY_EXTENSION) ? BINARY : JSON;
+    }
+
+    /**
+     * Returns a storage for the address book at {@code filePath} in this format.
+     */
+    public AddressBookStorage createStorage(Path filePath) {
+        return createStorage(filePath, new UserPrefs());
+    }
+
+    /**
+     * Returns a storage for the address book at {@code filePath} in this format, which loads persons and their
+     * interactions lazily as far as {@code userPrefs} asks for it and the format supports it.
+     */
+    public AddressBookStorage createStorage(Path filePath, ReadOnlyUserPrefs userPrefs) {
+        return createStorage(filePath, userPrefs, null);
+    }
+
+    /**
+     * Similar to {@link #createStorage(Path, ReadOnlyUserPrefs)}, except that files this app wrote itself while
+     * running as {@code appVersion} are trusted when read back, as far as the format supports it.
+     */
+    public AddressBookStorage createStorage(Path filePath, ReadOnlyUserPrefs userPrefs, Version appVersion) {
+        requireNonNull(filePath);
+        requireNonNull(userPrefs);
+        return storageFactory.create(filePath, userPrefs, appVersion);
+    }
+
+    /**
+     * Returns a storage for the JSON address book at {@code filePath}, split into as many segments as
+     * {@code userPrefs} asks for. An address book that is already split stays split into as many segments as it
+     * has if {@code userPrefs} does not ask for splitting, as the unsplit file was deleted when it was split.
+     */
+    private static AddressBookStorage createJsonStorage(Path filePath, ReadOnlyUserPrefs userPrefs,
+                                                        Version appVersion) {
+        int segmentCount = userPrefs.getAddressBookShardCount() > 0
+                ? userPrefs.getAddressBookShardCount()
+                : ShardedAddressBookStorage.getSegmentCount(filePath);
+        if (segmentCount > 0) {
+            return new ShardedAddressBookStorage(filePath, segmentCount, appVersion);
+        }
+        return new JournaledAddressBookStorage(filePath, appVersion);
+    }
+
+    /**
+     * Copies the address book at {@code source} to {@code target}, converting between formats as given by their
+     * file extensions. A JSON address book split into segments is read from its segments, and is written to them if
+     * {@code target} is split.
+     *
+     * @return the address book that was copied.
+     * @throws DataLoadingException if {@code source} is missing or could not be read.
+     * @throws IOException if {@code target} could not be written.
+     */
+    public static ReadOnlyAddressBook convert(Path source, Path target) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = of(source).createStorage(source).readAddressBook();
+        if (!addressBook.isPresent()) {
+            throw new DataLoadingException(new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, source)));
+        }
+        of(target).createStorage(target).saveAddressBook(addressBook.get());
+        return addressBook.get();
+    }
+
+    /**
+     * Creates the storage for an address book file in one format.
+     */
+    private interface StorageFactory {
+        AddressBookStorage create(Path filePath, ReadOnlyUserPrefs userPrefs, Version appVersion);
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes the address book on a background thread.
+ * <p>
+ * A save request only records the snapshot to write and (re)starts a short timer, so a burst of requests results
+ * in a single write of the latest snapshot once the requests stop for {@code delayMillis}. Requests that keep
+ * arriving cannot hold a write back for longer than {@link #MAX_DELAY_FACTOR} times the delay.
+ */
+class AddressBookSaveService {
+
+    static final int MAX_DELAY_FACTOR = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveService.class);
+
+    private final Writer writer;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are guarded by this service's lock
+    private ReadOnlyAddressBook pending;
+    private long firstPendingNanos;
+    private ScheduledFuture<?> scheduledWrite;
+    private Consumer<SaveStatus> listener = status -> { };
+
+    AddressBookSaveService(Writer writer, long delayMillis) {
+        requireNonNull(writer);
+        this.writer = writer;
+        this.delayMillis = delayMillis;
+    }
+
+    synchronized void setListener(Consumer<SaveStatus> listener) {
+        requireNonNull(listener);
+        this.listener = listener;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written, replacing any snapshot still waiting to be written.
+     * {@code snapshot} must not change afterwards.
+     */
+    synchronized void requestSave(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        long now = System.nanoTime();
+        if (pending == null) {
+            firstPendingNanos = now;
+        }
+        pending = snapshot;
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+        }
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(now - firstPendingNanos);
+        long delay = Math.max(0, Math.min(delayMillis, delayMillis * MAX_DELAY_FACTOR - waitedMillis));
+        scheduledWrite = executor.schedule(this::writePendingQuietly, delay, TimeUnit.MILLISECONDS);
+        listener.accept(SaveStatus.pending());
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any, and blocks until it and any earlier write are done.
+     *
+     * @throws IOException if the write failed.
+     */
+    void flush() throws IOException {
+        synchronized (this) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+            }
+        }
+        try {
+            executor.submit(() -> {
+                writePending();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void writePendingQuietly() {
+        try {
+            writePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any. Only runs on the executor thread.
+     */
+    private void writePending() throws IOException {
+        ReadOnlyAddressBook toWrite;
+        synchronized (this) {
+            toWrite = pending;
+            pending = null;
+        }
+        if (toWrite == null) {
+            return;
+        }
+
+        try {
+            writer.write(toWrite);
+        } catch (IOException | RuntimeException e) {
+            // an unexpected exception must not lose the changes either, e.g. one from loading a person to write it
+            IOException error = e instanceof IOException ? (IOException) e : new IOException(e);
+            synchronized (this) {
+                if (pending == null) {
+                    // keep the unsaved changes so that the next request or flush tries again
+                    pending = toWrite;
+                }
+                listener.accept(SaveStatus.failed(error));
+            }
+            throw error;
+        }
+        synchronized (this) {
+            if (pending == null) {
+                listener.accept(SaveStatus.saved(Instant.now()));
+            }
+        }
+    }
+
+    /**
+     * Writes an address book snapshot to disk.
+     */
+    @FunctionalInterface
+    interface Writer {
+        void write(ReadOnlyAddressBook addressBook) throws IOException;
+    }
+
+}
@@ -1,11 +1,16 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +35,22 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Similar to {@link #readAddressBook()}, except that persons may be handed to {@code onPersonsRead} in batches,
+     * on the calling thread, while the rest of the address book is still being read. The persons handed over are
+     * always the first persons of the address book returned, in order. If reading fails, they must be discarded.
+     * <p>
+     * A storage that cannot tell which persons the address book holds before reading all of it hands over none,
+     * as this default does.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBookInBatches(Consumer<List<Person>> onPersonsRead)
+            throws DataLoadingException {
+        requireNonNull(onPersonsRead);
+        return readAddressBook();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +63,14 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Makes the address book file hold every change saved so far on its own, e.g. before the app exits, so that it
+     * can be read or edited without any other file this storage keeps next to it. Blocks until done.
+     * Does nothing by default, as most storages write the whole file on every save.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void compactAddressBook() throws IOException {
+    }
+
 }
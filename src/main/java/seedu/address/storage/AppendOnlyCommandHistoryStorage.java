@@ -0,0 +1,324 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.ui.CommandHistory;
+
+/**
+ * A class to access command history data stored as a text file with one command per line, oldest first.
+ * <p>
+ * Each command is appended to the file as soon as it is entered, so a crash loses nothing entered before it.
+ * Once the file has grown past a size threshold, it is rewritten on a background thread to hold only the most
+ * recent commands that a {@link CommandHistory} keeps. Reading also keeps only that many.
+ * <p>
+ * A command history in the older json format is moved into this file the first time it is read.
+ */
+public class AppendOnlyCommandHistoryStorage implements CommandHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AppendOnlyCommandHistoryStorage.class);
+
+    private static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 256L * 1024;
+
+    private final Path filePath;
+    private final Path legacyFilePath;
+    private final int retainedCount;
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-history-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are guarded by this storage's lock
+    private FileChannel log;
+    private long logBytes;
+    private int rewriteCount; // counts rewrites of the whole file, which invalidate a compaction in progress
+    private boolean isCompacting;
+
+    /**
+     * Creates a storage for the command history in {@code filePath}, which takes over any history in the json file
+     * {@code legacyFilePath}.
+     */
+    public AppendOnlyCommandHistoryStorage(Path filePath, Path legacyFilePath) {
+        this(filePath, legacyFilePath, CommandHistory.DEFAULT_CAPACITY, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a storage that keeps the most recent {@code retainedCount} commands, and compacts the file once it holds
+     * {@code compactionThresholdBytes} bytes.
+     */
+    AppendOnlyCommandHistoryStorage(Path filePath, Path legacyFilePath, int retainedCount,
+                                    long compactionThresholdBytes) {
+        requireNonNull(filePath);
+        requireNonNull(legacyFilePath);
+        this.filePath = filePath;
+        this.legacyFilePath = legacyFilePath;
+        this.retainedCount = retainedCount;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized Optional<CommandHistory> readCommandHistory() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return readLegacyCommandHistory();
+        }
+
+        try {
+            byte[] bytes = Files.readAllBytes(filePath);
+            List<String> commands = new ArrayList<>();
+            for (String line : decodeLines(bytes)) {
+                commands.add(unescape(line));
+            }
+            logBytes = bytes.length;
+            return Optional.of(new CommandHistory(commands, retainedCount));
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public synchronized void saveCommandHistory(CommandHistory commandHistory) throws IOException {
+        requireNonNull(commandHistory);
+        closeLog();
+        Path temp = getTempFilePath();
+        FileUtil.createParentDirsOfFile(temp);
+        try (FileChannel out = openForWriting(temp)) {
+            for (String command : commandHistory.getHistory()) {
+                write(out, encodeLine(command));
+            }
+            out.force(true);
+            logBytes = out.size();
+        }
+        FileUtil.replaceFile(temp, filePath);
+        rewriteCount++;
+    }
+
+    @Override
+    public synchronized void appendCommand(String command) throws IOException {
+        requireNonNull(command);
+        byte[] line = encodeLine(command);
+        if (log == null) {
+            FileUtil.createParentDirsOfFile(filePath);
+            boolean isLineOpen = !endsWithLineBreak(filePath);
+            log = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            logBytes = log.size();
+            if (isLineOpen) {
+                // ends a line left partly written by a crash, so that it does not run into this command
+                write(log, encodeRawLine(""));
+                logBytes++;
+            }
+        }
+        write(log, line);
+        logBytes += line.length;
+        compactIfNeeded();
+    }
+
+    private Optional<CommandHistory> readLegacyCommandHistory() throws DataLoadingException {
+        Optional<CommandHistory> legacyHistory = new JsonCommandHistoryStorage(legacyFilePath).readCommandHistory();
+        if (legacyHistory.isPresent()) {
+            try {
+                saveCommandHistory(legacyHistory.get());
+                Files.delete(legacyFilePath);
+                logger.info("Moved command history from " + legacyFilePath + " to " + filePath);
+            } catch (IOException e) {
+                // the legacy file is only deleted once its commands are safely in this file, so it is read again
+                logger.warning("Could not move command history from " + legacyFilePath + ": " + e);
+            }
+        }
+        return legacyHistory;
+    }
+
+    /**
+     * Starts rewriting the file in the background if it has grown large enough.
+     */
+    private void compactIfNeeded() {
+        if (isCompacting || logBytes < compactionThresholdBytes) {
+            return;
+        }
+        isCompacting = true;
+        long compactedBytes = logBytes;
+        int expectedRewriteCount = rewriteCount;
+        compactor.execute(() -> compact(compactedBytes, expectedRewriteCount));
+    }
+
+    /**
+     * Drops all but the most recent commands in the first {@code compactedBytes} of the file, keeping every command
+     * appended after them.
+     */
+    private void compact(long compactedBytes, int expectedRewriteCount) {
+        try {
+            // the first compactedBytes are never changed while compacting, so they are read without the lock
+            byte[] compacted = readPrefix(compactedBytes);
+            List<String> lines = decodeLines(compacted);
+            int droppedCount = Math.max(0, lines.size() - retainedCount);
+            long droppedBytes = 0;
+            for (String line : lines.subList(0, droppedCount)) {
+                droppedBytes += encodeRawLine(line).length;
+            }
+            if (!trimLog(droppedBytes, expectedRewriteCount)) {
+                return;
+            }
+            logger.fine("Compacted " + droppedCount + " commands from " + filePath);
+        } catch (IOException | RuntimeException e) {
+            // the file still holds every command, so nothing is lost; compaction is retried on a later command
+            logger.warning("Could not compact command history " + filePath + ": " + e);
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Drops the first {@code droppedBytes} of the file, unless it has been rewritten since compaction started.
+     * Returns true if they were dropped.
+     */
+    private synchronized boolean trimLog(long droppedBytes, int expectedRewriteCount) throws IOException {
+        if (rewriteCount != expectedRewriteCount) {
+            return false;
+        }
+        closeLog();
+        Path temp = getTempFilePath();
+        try (FileChannel in = FileChannel.open(filePath, StandardOpenOption.READ);
+             FileChannel out = openForWriting(temp)) {
+            long size = in.size();
+            long position = droppedBytes;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+            out.force(true);
+            logBytes = out.size();
+        }
+        FileUtil.replaceFile(temp, filePath);
+        return true;
+    }
+
+    private byte[] readPrefix(long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length));
+        try (FileChannel in = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (in.read(buffer) == -1) {
+                    throw new EOFException(filePath + " is shorter than " + length + " bytes");
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    private void closeLog() throws IOException {
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+    }
+
+    private Path getTempFilePath() {
+        return filePath.resolveSibling(filePath.getFileName() + ".tmp");
+    }
+
+    private static FileChannel openForWriting(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Returns true if {@code path} is missing, empty or ends with a line break.
+     */
+    private static boolean endsWithLineBreak(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return true;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            return channel.size() == 0 || channel.read(last, channel.size() - 1) == 1 && last.get(0) == '\n';
+        }
+    }
+
+    private static void write(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the complete lines in {@code bytes}, without their line breaks.
+     * A partly written last line, as left by a crash while appending, is ignored.
+     */
+    private static List<String> decodeLines(byte[] bytes) {
+        List<String> lines = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                lines.add(new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8));
+                lineStart = i + 1;
+            }
+        }
+        return lines;
+    }
+
+    private static byte[] encodeLine(String command) {
+        return encodeRawLine(escape(command));
+    }
+
+    private static byte[] encodeRawLine(String line) {
+        return (line + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns {@code command} with its line breaks and backslashes escaped, so that it fits on one line.
+     */
+    static String escape(String command) {
+        return command.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverses {@link #escape(String)}.
+     */
+    static String unescape(String line) {
+        StringBuilder command = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\' || i + 1 == line.length()) {
+                command.append(c);
+                continue;
+            }
+            char escaped = line.charAt(++i);
+            command.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return command.toString();
+    }
+
+    /**
+     * Waits until any compaction started so far has finished.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactor.submit(() -> { }).get();
+    }
+
+}
@@ -0,0 +1,690 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.interaction.Interaction;
+import seedu.address.model.interaction.InteractionHistory;
+import seedu.address.model.interaction.InteractionType;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Cadence;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a table of the distinct addresses,
+ * tags and roles, then the persons. Persons refer to those values by their position in the table, so values
+ * shared by many persons are stored and validated once. Strings are stored as a length-prefixed UTF-8 byte array,
+ * interaction types as a byte and interaction timestamps as epoch seconds and nanoseconds.
+ * <p>
+ * Files are read through a memory mapping of a private copy beside them. A mapping cannot be released explicitly and
+ * keeps its file locked on Windows for as long as a lazily decoded person or history still refers to it, so mapping
+ * the file itself would make it impossible to save over. The copy is deleted as soon as it is mapped where the system
+ * allows that, and otherwise on the next read. A lazy storage only reads the table and each person's name when
+ * loading, and decodes the rest of a person when it is first accessed, e.g. when shown in the person list. Values
+ * decoded late are validated late, so an invalid value in the file then fails the access with an
+ * {@link IllegalStateException} instead of failing the load.
+ * <p>
+ * A storage with lazy interaction histories only decodes the count and most recent interaction of each person when
+ * decoding the person, and decodes the rest of the history each time it is needed, e.g. when shown in the person
+ * details panel. The most recently used histories are kept in an {@link InteractionCache}.
+ * <p>
+ * Saving a book that was read lazily copies the bytes of the persons and histories still not decoded from the file
+ * they were read from instead of decoding them, and only encodes the rest. The table of the file read is kept whole
+ * so that the copied persons still refer to the right values, so a value no longer used stays in the table until
+ * the book is next saved without anything to copy.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book format version %d is not supported.";
+    public static final String MESSAGE_BAD_REFERENCE = "Binary address book refers to missing value %d.";
+    public static final String MESSAGE_INVALID_INTERACTION_TYPE = "Unknown interaction type %d.";
+    public static final String MESSAGE_TRUNCATED = "Binary address book ends unexpectedly.";
+    public static final String MESSAGE_TOO_LARGE = "Binary address book is too large to be mapped into memory.";
+    public static final String MESSAGE_INVALID_DEFERRED_PERSON = "Person %d in %s could not be loaded: %s";
+    public static final String MESSAGE_INVALID_DEFERRED_INTERACTIONS =
+            "Interactions of %s in %s could not be loaded: %s";
+
+    static final int MAGIC = 0x41423342; // "AB3B"
+    static final int FORMAT_VERSION = 1;
+    static final String MAPPED_COPY_SUFFIX = ".mapped";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NONE = -1;
+    private static final int MAX_PRESIZED_COUNT = 1 << 16; // so that a corrupt count cannot exhaust memory early
+    private static final int INTERACTION_CACHE_CAPACITY = 100_000;
+
+    private final Path filePath;
+    private final boolean isLazy;
+    private final boolean isHistoryLazy;
+    private final InteractionCache interactionCache = new InteractionCache(INTERACTION_CACHE_CAPACITY);
+    private volatile Reader.PersonSource lazySource; // of the persons last read lazily, null if none
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public BinaryAddressBookStorage(Path filePath, boolean isLazy) {
+        this(filePath, isLazy, false);
+    }
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}.
+     *
+     * @param isLazy whether persons read are only decoded when first accessed.
+     * @param isHistoryLazy whether the interaction histories of persons read are only decoded when needed.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isLazy, boolean isHistoryLazy) {
+        this.filePath = filePath;
+        this.isLazy = isLazy;
+        this.isHistoryLazy = isHistoryLazy;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            ByteBuffer buffer = mapCopy(filePath);
+            Reader reader = new Reader(filePath, isHistoryLazy ? interactionCache : null);
+            if (!isLazy) {
+                return Optional.of(reader.read(buffer));
+            }
+            AddressBook addressBook = reader.readDeferred(buffer);
+            lazySource = reader.getPersonSource();
+            return Optional.of(addressBook);
+        } catch (BufferUnderflowException bue) {
+            logger.warning("Error reading from binary file " + filePath + ": " + MESSAGE_TRUNCATED);
+            throw new DataLoadingException(new IOException(MESSAGE_TRUNCATED, bue));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Maps a private copy of {@code filePath} into memory, or the file itself if no copy can be made beside it, e.g.
+     * in a read-only folder where the file cannot be saved over anyway. Copies left by earlier reads are deleted.
+     */
+    private static ByteBuffer mapCopy(Path filePath) throws IOException {
+        Path folder = filePath.toAbsolutePath().getParent();
+        String copyPrefix = filePath.getFileName() + ".";
+        deleteStaleCopies(folder, copyPrefix);
+
+        Path copy;
+        try {
+            copy = Files.createTempFile(folder, copyPrefix, MAPPED_COPY_SUFFIX);
+            Files.copy(filePath, copy, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ioe) {
+            logger.fine("Could not copy " + filePath + " to map it, so mapping it directly: " + ioe);
+            return map(filePath);
+        }
+        try {
+            return map(copy);
+        } finally {
+            // the mapping stays valid where the copy can be deleted while mapped
+            deleteQuietly(copy);
+        }
+    }
+
+    private static ByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_TOO_LARGE);
+            }
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static void deleteStaleCopies(Path folder, String copyPrefix) {
+        DirectoryStream.Filter<Path> isCopy = path -> path.getFileName().toString().startsWith(copyPrefix)
+                && path.getFileName().toString().endsWith(MAPPED_COPY_SUFFIX);
+        try (DirectoryStream<Path> copies = Files.newDirectoryStream(folder, isCopy)) {
+            copies.forEach(BinaryAddressBookStorage::deleteQuietly);
+        } catch (IOException ioe) {
+            logger.fine("Could not look for stale copies in " + folder + ": " + ioe);
+        }
+    }
+
+    private static void deleteQuietly(Path copy) {
+        try {
+            Files.deleteIfExists(copy);
+        } catch (IOException ioe) {
+            // still mapped, by this or another running app; tried again on the next read
+            logger.fine("Could not delete " + copy + " yet: " + ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written in full beside {@code filePath} first, so a failed save leaves the old file intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path temp = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(temp);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+            write(addressBook, lazySource, out);
+        }
+        FileUtil.replaceFile(temp, filePath);
+    }
+
+    /**
+     * Writes {@code addressBook}, copying the persons that {@code source} has not decoded yet rather than encoding
+     * them.
+     */
+    private static void write(ReadOnlyAddressBook addressBook, Reader.PersonSource source, DataOutputStream out)
+            throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        int[] sourceIndices = new int[persons.size()];
+        boolean hasCopies = false;
+        for (int i = 0; i < sourceIndices.length; i++) {
+            sourceIndices[i] = source == null ? NONE : addressBook.getDeferredIndex(i, source);
+            hasCopies |= sourceIndices[i] != NONE;
+        }
+
+        Map<String, Integer> table = new HashMap<>();
+        List<String> values = new ArrayList<>();
+        if (hasCopies) {
+            // copied persons refer to values by their position in the source table, which may repeat values
+            for (String value : source.getValues()) {
+                table.putIfAbsent(value, values.size());
+                values.add(value);
+            }
+        }
+        for (int i = 0; i < sourceIndices.length; i++) {
+            if (sourceIndices[i] != NONE) {
+                continue;
+            }
+            Person person = persons.get(i);
+            addToTable(person.getAddress().value, table, values);
+            person.getTags().forEach(tag -> addToTable(tag.tagName, table, values));
+            if (person.getRole() != null) {
+                addToTable(person.getRole().value, table, values);
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(value, out);
+        }
+
+        out.writeInt(persons.size());
+        for (int i = 0; i < sourceIndices.length; i++) {
+            if (sourceIndices[i] != NONE) {
+                source.copyPerson(sourceIndices[i], out);
+                continue;
+            }
+            Person person = persons.get(i);
+            writeString(person.getName().fullName, out);
+            writeString(person.getPhone().value, out);
+            writeString(person.getEmail().value, out);
+            out.writeInt(table.get(person.getAddress().value));
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.writeInt(table.get(tag.tagName));
+            }
+            out.writeInt(person.getRole() == null ? NONE : table.get(person.getRole().value));
+            out.writeInt(person.getCadence().map(Cadence::getIntervalDays).orElse(NONE));
+
+            writeInteractions(person.getInteractions(), out);
+        }
+    }
+
+    /**
+     * Writes {@code interactions}, copying them from the file they were read from if they are deferred.
+     * Interactions do not refer to the table, so they can be copied from any file.
+     */
+    private static void writeInteractions(InteractionHistory interactions, DataOutputStream out) throws IOException {
+        Supplier<Interaction[]> loader = InteractionCache.uncached(interactions.getLoaderOrNull());
+        if (loader instanceof Reader.HistorySource) {
+            Reader.HistorySource source = (Reader.HistorySource) loader;
+            source.copyTo(out);
+            return;
+        }
+
+        out.writeInt(interactions.size());
+        for (Interaction interaction : interactions) {
+            out.writeByte(interaction.getType().ordinal());
+            out.writeLong(interaction.getTimestamp().getEpochSecond());
+            out.writeInt(interaction.getTimestamp().getNano());
+            writeString(interaction.getDetails(), out);
+        }
+    }
+
+    private static void addToTable(String value, Map<String, Integer> table, List<String> values) {
+        if (table.putIfAbsent(value, values.size()) == null) {
+            values.add(value);
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads binary address books, validating each table value the first time a person refers to it and sharing
+     * the resulting model object between all the persons that refer to it.
+     * Reads are made through buffers that are positioned at the next value to read.
+     */
+    private static class Reader {
+        private static final InteractionType[] INTERACTION_TYPES = InteractionType.values();
+
+        // Persons may be decoded on several threads at once; the caches below may then be filled more than once,
+        // which is harmless as the cached values are immutable
+        private String[] values;
+        private Address[] addresses;
+        private Tag[] tags;
+        private Role[] roles;
+
+        private final Path filePath;
+        private final InteractionCache interactionCache; // null unless interaction histories are deferred
+        private PersonSource personSource; // null until read lazily
+
+        Reader(Path filePath, InteractionCache interactionCache) {
+            this.filePath = filePath;
+            this.interactionCache = interactionCache;
+        }
+
+        /**
+         * Reads and decodes the whole address book in {@code in}.
+         */
+        AddressBook read(ByteBuffer in) throws IOException, IllegalValueException {
+            readHeader(in);
+            int personCount = readCount(in);
+            List<Person> persons = new ArrayList<>(Math.min(personCount, MAX_PRESIZED_COUNT));
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(in));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            return addressBook;
+        }
+
+        /**
+         * Reads the address book in {@code in}, decoding only the names of persons. The rest of each person is
+         * decoded from {@code in} when first accessed, so {@code in} must stay unchanged.
+         */
+        AddressBook readDeferred(ByteBuffer in) throws IOException, IllegalValueException {
+            readHeader(in);
+            int personCount = readCount(in);
+            int[] offsets = new int[personCount + 1];
+            List<Name> names = new ArrayList<>(Math.min(personCount, MAX_PRESIZED_COUNT));
+            for (int i = 0; i < personCount; i++) {
+                offsets[i] = in.position();
+                names.add(readName(in));
+                skipRestOfPerson(in);
+            }
+            offsets[personCount] = in.position();
+
+            try {
+                personSource = new PersonSource(in, offsets);
+                return AddressBook.deferred(names, personSource);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+
+        /**
+         * Returns the loader of the persons last read by {@link #readDeferred(ByteBuffer)}, or null if none were.
+         */
+        PersonSource getPersonSource() {
+            return personSource;
+        }
+
+        private void readHeader(ByteBuffer in) throws IOException {
+            if (in.remaining() < 2 * Integer.BYTES || in.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            int version = in.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int valueCount = readCount(in);
+            values = new String[valueCount];
+            for (int i = 0; i < valueCount; i++) {
+                values[i] = readString(in);
+            }
+            addresses = new Address[valueCount];
+            tags = new Tag[valueCount];
+            roles = new Role[valueCount];
+        }
+
+        private Person readPerson(ByteBuffer in) throws IOException, IllegalValueException {
+            Name name = readName(in);
+            String phone = readString(in);
+            checkValue(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+            String email = readString(in);
+            checkValue(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+            Address address = readAddress(in);
+
+            int tagCount = readCount(in);
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(readTag(in));
+            }
+            Role role = readRole(in);
+            int cadenceDays = in.getInt();
+            checkValue(cadenceDays == NONE || cadenceDays > 0, JsonAdaptedPerson.MESSAGE_INVALID_CADENCE);
+            Cadence cadence = cadenceDays == NONE ? null : new Cadence(cadenceDays);
+
+            List<Interaction> interactions = interactionCache == null ? readInteractions(in)
+                    : readDeferredInteractions(in, name);
+            return new Person(name, new Phone(phone), new Email(email), address, personTags, role, cadence,
+                    interactions);
+        }
+
+        private List<Interaction> readInteractions(ByteBuffer in) throws IOException, IllegalValueException {
+            int interactionCount = readCount(in);
+            List<Interaction> interactions = new ArrayList<>(Math.min(interactionCount, MAX_PRESIZED_COUNT));
+            for (int i = 0; i < interactionCount; i++) {
+                interactions.add(readInteraction(in));
+            }
+            return interactions;
+        }
+
+        /**
+         * Decodes only the count and the most recent of the interactions in {@code in}, and returns a history that
+         * decodes the rest from {@code in} when needed, so {@code in} must stay unchanged.
+         */
+        private InteractionHistory readDeferredInteractions(ByteBuffer in, Name name)
+                throws IOException, IllegalValueException {
+            int start = in.position();
+            int interactionCount = readCount(in);
+            if (interactionCount == 0) {
+                return InteractionHistory.empty();
+            }
+            for (int i = 1; i < interactionCount; i++) {
+                skipInteraction(in);
+            }
+            Interaction last = readInteraction(in);
+
+            return InteractionHistory.deferred(interactionCount, last,
+                    interactionCache.cache(new HistorySource(in, start, in.position(), name)));
+        }
+
+        private Name readName(ByteBuffer in) throws IOException, IllegalValueException {
+            String name = readString(in);
+            checkValue(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+            return new Name(name);
+        }
+
+        /**
+         * Moves {@code in} past the fields of a person that follow its name, checking only that they fit the file.
+         */
+        private void skipRestOfPerson(ByteBuffer in) throws IOException, IllegalValueException {
+            skipString(in); // phone
+            skipString(in); // email
+            checkReference(in.getInt()); // address
+            int tagCount = readCount(in);
+            skip(in, (long) tagCount * Integer.BYTES);
+            in.getInt(); // role
+            in.getInt(); // cadence
+            int interactionCount = readCount(in);
+            for (int i = 0; i < interactionCount; i++) {
+                skipInteraction(in);
+            }
+        }
+
+        private static void skipInteraction(ByteBuffer in) throws IOException {
+            skip(in, Byte.BYTES + Long.BYTES + Integer.BYTES);
+            skipString(in);
+        }
+
+        private Interaction readInteraction(ByteBuffer in) throws IOException, IllegalValueException {
+            int type = Byte.toUnsignedInt(in.get());
+            if (type >= INTERACTION_TYPES.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_INTERACTION_TYPE, type));
+            }
+            long epochSecond = in.getLong();
+            int nano = in.getInt();
+            String details = readString(in);
+            try {
+                return new Interaction(INTERACTION_TYPES[type], details, Instant.ofEpochSecond(epochSecond, nano));
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+        }
+
+        private Address readAddress(ByteBuffer in) throws IllegalValueException {
+            int index = readReference(in);
+            if (addresses[index] == null) {
+                checkValue(Address.isValidAddress(values[index]), Address.MESSAGE_CONSTRAINTS);
+                addresses[index] = new Address(values[index]);
+            }
+            return addresses[index];
+        }
+
+        private Tag readTag(ByteBuffer in) throws IllegalValueException {
+            int index = readReference(in);
+            if (tags[index] == null) {
+                checkValue(Tag.isValidTagName(values[index]), Tag.MESSAGE_CONSTRAINTS);
+                tags[index] = new Tag(values[index]);
+            }
+            return tags[index];
+        }
+
+        private Role readRole(ByteBuffer in) throws IllegalValueException {
+            int index = in.getInt();
+            if (index == NONE) {
+                return null;
+            }
+            checkReference(index);
+            if (roles[index] == null) {
+                checkValue(Role.isValidRole(values[index]), Role.MESSAGE_CONSTRAINTS);
+                roles[index] = new Role(values[index]);
+            }
+            return roles[index];
+        }
+
+        private int readReference(ByteBuffer in) throws IllegalValueException {
+            int index = in.getInt();
+            checkReference(index);
+            return index;
+        }
+
+        private void checkReference(int index) throws IllegalValueException {
+            if (index < 0 || index >= values.length) {
+                throw new IllegalValueException(String.format(MESSAGE_BAD_REFERENCE, index));
+            }
+        }
+
+        private static int readCount(ByteBuffer in) throws IOException {
+            int count = in.getInt();
+            if (count < 0) {
+                throw new IOException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            return count;
+        }
+
+        private static String readString(ByteBuffer in) throws IOException {
+            int length = readCount(in);
+            if (length > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static void skipString(ByteBuffer in) throws IOException {
+            skip(in, readCount(in));
+        }
+
+        private static void skip(ByteBuffer in, long length) {
+            if (length > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            in.position(in.position() + (int) length);
+        }
+
+        private static void checkValue(boolean isValid, String message) throws IllegalValueException {
+            if (!isValid) {
+                throw new IllegalValueException(message);
+            }
+        }
+
+        /**
+         * Copies the bytes from {@code start} to {@code end}, exclusive, of {@code in} to {@code out}.
+         */
+        private static void copy(ByteBuffer in, int start, int end, DataOutputStream out) throws IOException {
+            byte[] bytes = new byte[end - start];
+            in.duplicate().position(start).get(bytes);
+            out.write(bytes);
+        }
+
+        /**
+         * Loads the persons of a lazily read file, each from its offset in the file.
+         */
+        class PersonSource implements IntFunction<Person> {
+            private final ByteBuffer in;
+            private final int[] offsets; // with the end of the last person at the end
+
+            PersonSource(ByteBuffer in, int[] offsets) {
+                this.in = in;
+                this.offsets = offsets;
+            }
+
+            @Override
+            public Person apply(int index) {
+                try {
+                    return readPerson(in.duplicate().position(offsets[index]));
+                } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+                    throw new IllegalStateException(String.format(MESSAGE_INVALID_DEFERRED_PERSON, index + 1,
+                            filePath, e.getMessage() == null ? MESSAGE_TRUNCATED : e.getMessage()), e);
+                }
+            }
+
+            /**
+             * Returns the table of the file, which the persons refer to by position.
+             */
+            String[] getValues() {
+                return values;
+            }
+
+            /**
+             * Copies the person at {@code index} to {@code out} as it is in the file, without decoding it.
+             */
+            void copyPerson(int index, DataOutputStream out) throws IOException {
+                copy(in, offsets[index], offsets[index + 1], out);
+            }
+        }
+
+        /**
+         * Loads the interactions of a person from the range of a lazily read file that holds them.
+         */
+        class HistorySource implements Supplier<Interaction[]> {
+            private final ByteBuffer in;
+            private final int start;
+            private final int end;
+            private final Name name;
+
+            HistorySource(ByteBuffer in, int start, int end, Name name) {
+                this.in = in;
+                this.start = start;
+                this.end = end;
+                this.name = name;
+            }
+
+            @Override
+            public Interaction[] get() {
+                try {
+                    return readInteractions(in.duplicate().position(start)).toArray(new Interaction[0]);
+                } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+                    throw new IllegalStateException(String.format(MESSAGE_INVALID_DEFERRED_INTERACTIONS, name,
+                            filePath, e.getMessage() == null ? MESSAGE_TRUNCATED : e.getMessage()), e);
+                }
+            }
+
+            /**
+             * Copies the interactions to {@code out} as they are in the file, without decoding them.
+             */
+            void copyTo(DataOutputStream out) throws IOException {
+                copy(in, start, end, out);
+            }
+        }
+    }
+
+}
@@ -37,4 +37,12 @@ public interface CommandHistoryStorage {
      * @throws IOException if there was any problem writing to the file.
      */
     void saveCommandHistory(CommandHistory commandHistory) throws IOException;
+
+    /**
+     * Adds {@code command} to the end of the stored command history.
+     *
+     * @param command The command just entered. Must not be {@code null}.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommand(String command) throws IOException;
 }
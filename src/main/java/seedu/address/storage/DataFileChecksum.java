@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Version;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Keeps track of the data files this app wrote itself, so that reading them back can skip validating their values.
+ * <p>
+ * After a data file is written in full, its size, a checksum of its contents and the app version are saved in a
+ * file beside it. The data file is trusted when all three still match as it is read: the file has not been edited
+ * since, and it was written by an app that validates values the same way. A missing or unreadable checksum file
+ * means the data file is not trusted, so recording the checksum is best effort.
+ * <p>
+ * The app version is given by whoever creates the storage. Without one, no data file is trusted or recorded.
+ */
+final class DataFileChecksum {
+
+    public static final String CHECKSUM_FILE_SUFFIX = ".checksum";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileChecksum.class);
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Version appVersion; // null if no data file is trusted
+
+    /**
+     * Creates checksums tagged with {@code appVersion}, or that never trust a data file if it is null.
+     */
+    DataFileChecksum(Version appVersion) {
+        this.appVersion = appVersion;
+    }
+
+    /**
+     * Returns the file the checksum of {@code dataFile} is kept in.
+     */
+    static Path getChecksumFilePath(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    /**
+     * Records the current contents of {@code dataFile}, which this app has just written in full.
+     * A failure is only logged, since it just means the next read validates the file.
+     */
+    void record(Path dataFile) {
+        if (appVersion == null) {
+            return;
+        }
+        try {
+            JsonUtil.saveJsonFile(new JsonAdaptedDataFileChecksum(appVersion.toString(), Files.size(dataFile),
+                    compute(dataFile)), getChecksumFilePath(dataFile));
+        } catch (IOException ioe) {
+            logger.warning("Could not record the checksum of " + dataFile + ": " + ioe);
+        }
+    }
+
+    /**
+     * Returns true if {@code dataFile} is unchanged since this version of the app last recorded it.
+     */
+    boolean isTrusted(Path dataFile) {
+        Path checksumFile = getChecksumFilePath(dataFile);
+        if (appVersion == null || !Files.exists(checksumFile)) {
+            return false;
+        }
+        try {
+            Optional<JsonAdaptedDataFileChecksum> recorded =
+                    JsonUtil.readJsonFile(checksumFile, JsonAdaptedDataFileChecksum.class);
+            return recorded.isPresent()
+                    && appVersion.toString().equals(recorded.get().getAppVersion())
+                    && Files.size(dataFile) == recorded.get().getSize()
+                    && compute(dataFile) == recorded.get().getChecksum();
+        } catch (DataLoadingException | IOException e) {
+            logger.info("Could not check " + dataFile + " against " + checksumFile + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the checksum of the contents of {@code dataFile}.
+     */
+    static long compute(Path dataFile) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import seedu.address.model.interaction.Interaction;
+
+/**
+ * Keeps the most recently loaded interaction histories, up to a bound on the total number of interactions held,
+ * so that a deferred history that is shown or searched repeatedly is not decoded again each time.
+ * The least recently used histories are evicted first.
+ */
+class InteractionCache {
+
+    private final int capacity;
+    private final LinkedHashMap<Object, Interaction[]> histories = new LinkedHashMap<>(16, 0.75f, true);
+    private int cachedCount;
+
+    /**
+     * Creates a cache holding at most {@code capacity} interactions in total.
+     */
+    InteractionCache(int capacity) {
+        checkArgument(capacity >= 0, "Capacity must not be negative.");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a loader that returns the interactions of {@code loader} from this cache if they are still held,
+     * and loads and caches them otherwise.
+     */
+    Supplier<Interaction[]> cache(Supplier<Interaction[]> loader) {
+        requireNonNull(loader);
+        return new CachedLoader(loader);
+    }
+
+    /**
+     * Returns the loader that {@code loader} was made from by {@link #cache(Supplier)} of any cache, or
+     * {@code loader} itself if it was not made by a cache.
+     */
+    static Supplier<Interaction[]> uncached(Supplier<Interaction[]> loader) {
+        return loader instanceof CachedLoader ? ((CachedLoader) loader).loader : loader;
+    }
+
+    /**
+     * Returns the total number of interactions held.
+     */
+    synchronized int getCachedCount() {
+        return cachedCount;
+    }
+
+    private Interaction[] getOrLoad(Object key, Supplier<Interaction[]> loader) {
+        synchronized (this) {
+            Interaction[] cached = histories.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // loaded outside the lock so that a slow load does not hold up other histories
+        Interaction[] loaded = loader.get();
+        if (loaded.length <= capacity) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    private synchronized void put(Object key, Interaction[] interactions) {
+        Interaction[] replaced = histories.put(key, interactions);
+        cachedCount += interactions.length - (replaced == null ? 0 : replaced.length);
+
+        Iterator<Map.Entry<Object, Interaction[]>> eldest = histories.entrySet().iterator();
+        while (cachedCount > capacity) {
+            cachedCount -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * A loader that goes through this cache, and is the key of the interactions it loads.
+     */
+    private class CachedLoader implements Supplier<Interaction[]> {
+        private final Supplier<Interaction[]> loader;
+
+        CachedLoader(Supplier<Interaction[]> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public Interaction[] get() {
+            return getOrLoad(this, loader);
+        }
+    }
+}
@@ -0,0 +1,539 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Version;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of later changes.
+ * <p>
+ * Saving compares the address book with the last saved version and appends only the changed range of persons
+ * to the journal as one compact line, forced to disk before returning. A save that changes nothing writes nothing.
+ * Once the journal holds enough records, the snapshot is rewritten on a background thread and the records it now
+ * includes are trimmed from the journal. The journal is also compacted in full when the app exits, so that the
+ * snapshot then holds every change on its own. Reading loads the snapshot and replays the journal records newer
+ * than it.
+ * <p>
+ * The first line of the journal identifies the snapshot its records were made against. A journal found next to a
+ * different snapshot, e.g. one edited by hand, is not replayed, as its records would change the wrong persons. It is
+ * moved aside to a file ending in {@link #DISCARDED_JOURNAL_SUFFIX} instead.
+ * <p>
+ * The snapshot is an ordinary address book json file, so it can also be read by {@link JsonAddressBookStorage}.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String DISCARDED_JOURNAL_SUFFIX = ".discarded";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    private static final long MAX_JOURNAL_BYTES = 8L * 1024 * 1024;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final JsonAddressBookStorage jsonStorage;
+    private final DataFileChecksum checksum;
+    private final int compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are guarded by this storage's lock
+    private List<Person> savedPersons; // null until the file has been read or fully written once
+    private long sequence;
+    private int journalRecords;
+    private long journalBytes; // not counting the header
+    private long journalHeaderBytes;
+    private FileChannel journal;
+    private boolean isCompacting;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage that trusts the snapshots it wrote itself while running as {@code appVersion},
+     * or that validates every snapshot if {@code appVersion} is null.
+     */
+    public JournaledAddressBookStorage(Path filePath, Version appVersion) {
+        this(filePath, appVersion, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts the journal into the snapshot once it holds {@code compactionThreshold} records.
+     */
+    JournaledAddressBookStorage(Path filePath, Version appVersion, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.jsonStorage = new JsonAddressBookStorage(filePath, appVersion);
+        this.checksum = new DataFileChecksum(appVersion);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than this storage's own are read as plain json address books.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+        return read(persons -> { });
+    }
+
+    /**
+     * Reads this storage's address book, handing the persons of the snapshot to {@code onPersonsRead} in batches as
+     * they are converted if there is no journal to replay on top of it. Otherwise none are handed over, as the
+     * journal may change any of them.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInBatches(Consumer<List<Person>> onPersonsRead)
+            throws DataLoadingException {
+        requireNonNull(onPersonsRead);
+        return read(onPersonsRead);
+    }
+
+    private Optional<ReadOnlyAddressBook> read(Consumer<List<Person>> onPersonsRead) throws DataLoadingException {
+        synchronized (this) {
+            boolean hasSnapshot = Files.exists(filePath);
+            if (!hasSnapshot && !Files.exists(journalPath)) {
+                return Optional.empty();
+            }
+
+            byte[] journalContent;
+            try {
+                journalContent = Files.exists(journalPath) ? Files.readAllBytes(journalPath) : new byte[0];
+            } catch (IOException ioe) {
+                logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+            int headerEnd = endOfFirstLine(journalContent);
+            boolean hasRecords = journalContent.length > headerEnd;
+
+            AddressBook addressBook = new AddressBook();
+            long snapshotSequence = 0;
+            if (hasSnapshot) {
+                logger.info("JSON file " + filePath + " found.");
+                try {
+                    long start = System.nanoTime();
+                    boolean isTrusted = checksum.isTrusted(filePath);
+                    snapshotSequence = JsonSerializableAddressBook.readJsonFile(filePath, addressBook, isTrusted,
+                            hasRecords ? persons -> { } : onPersonsRead);
+                    logger.info(String.format("Read %d persons from %s in %d ms%s", addressBook.getPersonList().size(),
+                            filePath, (System.nanoTime() - start) / 1_000_000,
+                            isTrusted ? ", skipping validation as the file is unchanged since it was saved" : ""));
+                } catch (IOException ioe) {
+                    logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+                    throw new DataLoadingException(ioe);
+                } catch (IllegalValueException ive) {
+                    logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                    throw new DataLoadingException(ive);
+                }
+            }
+
+            try {
+                closeJournal();
+                sequence = snapshotSequence;
+                journalRecords = 0;
+                journalBytes = 0;
+                journalHeaderBytes = 0;
+                List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+                boolean isCompactionUnfinished = false;
+                if (journalContent.length > 0) {
+                    JsonAdaptedJournalHeader header = parseHeader(journalContent, headerEnd);
+                    boolean isMatch = hasSnapshot && header != null && matchesSnapshot(header);
+                    // only a compaction moves the snapshot past the records; editing it by hand does not
+                    isCompactionUnfinished = hasSnapshot && header != null && !isMatch
+                            && snapshotSequence > header.getSnapshotSequence();
+                    if (isMatch || isCompactionUnfinished) {
+                        replayJournal(persons, journalContent, headerEnd);
+                    } else {
+                        setJournalAside(hasRecords);
+                    }
+                }
+                if (!hasSnapshot) {
+                    savedPersons = null;
+                    return Optional.empty();
+                }
+
+                addressBook.setPersons(persons);
+                savedPersons = new ArrayList<>(addressBook.getPersonList());
+                if (isCompactionUnfinished) {
+                    // the journal still names the snapshot before the last compaction, so finish that compaction
+                    compactAll();
+                    deleteJournal();
+                } else {
+                    compactIfNeeded();
+                }
+                return Optional.of(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            } catch (DuplicatePersonException dpe) {
+                logger.info("Duplicate persons found in " + filePath);
+                throw new DataLoadingException(new IllegalValueException(
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            } catch (IOException ioe) {
+                logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+        }
+    }
+
+    /**
+     * Returns the index just past the first line break in {@code content}, or 0 if there is none.
+     */
+    private static int endOfFirstLine(byte[] content) {
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the journal header held by the first {@code headerEnd} bytes of {@code content}, or null if they do not
+     * hold one.
+     */
+    private static JsonAdaptedJournalHeader parseHeader(byte[] content, int headerEnd) {
+        try {
+            JsonAdaptedJournalHeader header = JsonUtil.fromJsonString(
+                    new String(content, 0, headerEnd, StandardCharsets.UTF_8), JsonAdaptedJournalHeader.class);
+            // a snapshot is never empty, so this also turns away a journal that starts with a record instead
+            return header.getSnapshotSize() > 0 ? header : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the snapshot is the very file {@code header} was made against.
+     */
+    private boolean matchesSnapshot(JsonAdaptedJournalHeader header) throws IOException {
+        return Files.size(filePath) == header.getSnapshotSize()
+                && DataFileChecksum.compute(filePath) == header.getSnapshotChecksum();
+    }
+
+    /**
+     * Moves a journal made against another snapshot out of the way, or just deletes it if it holds no records.
+     */
+    private void setJournalAside(boolean hasRecords) throws IOException {
+        if (!hasRecords) {
+            Files.deleteIfExists(journalPath);
+            return;
+        }
+        Path discardedPath = journalPath.resolveSibling(journalPath.getFileName() + DISCARDED_JOURNAL_SUFFIX);
+        Files.move(journalPath, discardedPath, StandardCopyOption.REPLACE_EXISTING);
+        logger.warning(journalPath + " was made against a different version of " + filePath
+                + ", e.g. before it was edited by hand, so its changes were not loaded. It was moved to "
+                + discardedPath);
+    }
+
+    /**
+     * Applies the journal records in {@code content} after its header that are newer than the snapshot to
+     * {@code persons}. A trailing record left incomplete by an interrupted write is dropped from the journal.
+     */
+    private void replayJournal(List<Person> persons, byte[] content, int headerEnd) throws IOException,
+            IllegalValueException {
+        int lineStart = headerEnd;
+        for (int i = headerEnd; i < content.length; i++) {
+            if (content[i] != '\n') {
+                continue;
+            }
+            String line = new String(content, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            if (record.getSequence() > sequence) {
+                record.applyTo(persons);
+                sequence = record.getSequence();
+            }
+            journalRecords++;
+            lineStart = i + 1;
+        }
+        journalHeaderBytes = headerEnd;
+        journalBytes = lineStart - headerEnd;
+
+        if (lineStart < content.length) {
+            logger.warning("Discarding an incomplete record at the end of " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(lineStart);
+                channel.force(true);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than this storage's own are written in full as plain json address books.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        synchronized (this) {
+            List<Person> persons = addressBook.getPersonList();
+            if (savedPersons == null) {
+                // nothing is known about the file yet, so start over from a full snapshot
+                writeSnapshot(persons, sequence);
+                deleteJournal();
+                savedPersons = new ArrayList<>(persons);
+                return;
+            }
+            appendChanges(persons);
+            compactIfNeeded();
+        }
+    }
+
+    /**
+     * Appends a record of the persons that differ from the last saved version, if any.
+     * Persons are immutable, so unchanged persons are recognised by identity.
+     */
+    private void appendChanges(List<Person> persons) throws IOException {
+        int oldSize = savedPersons.size();
+        int newSize = persons.size();
+        int start = 0;
+        while (start < oldSize && start < newSize && savedPersons.get(start) == persons.get(start)) {
+            start++;
+        }
+        if (start == oldSize && start == newSize) {
+            return;
+        }
+        int end = 0;
+        while (end < oldSize - start && end < newSize - start
+                && savedPersons.get(oldSize - 1 - end) == persons.get(newSize - 1 - end)) {
+            end++;
+        }
+
+        List<Person> inserted = new ArrayList<>(persons.subList(start, newSize - end));
+        int removed = oldSize - start - end;
+        append(JsonAdaptedJournalRecord.ofSplice(sequence + 1, start, removed, inserted));
+        sequence++;
+
+        List<Person> changedRange = savedPersons.subList(start, start + removed);
+        changedRange.clear();
+        changedRange.addAll(inserted);
+    }
+
+    private void append(JsonAdaptedJournalRecord record) throws IOException {
+        byte[] line = toLine(record);
+        if (journal == null) {
+            FileUtil.createParentDirsOfFile(journalPath);
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            if (journal.size() == 0) {
+                // no record has been added since the snapshot was written, so it holds everything up to sequence
+                byte[] header = toLine(new JsonAdaptedJournalHeader(sequence, Files.size(filePath),
+                        DataFileChecksum.compute(filePath)));
+                write(journal, header);
+                journalHeaderBytes = header.length;
+            }
+        }
+        write(journal, line);
+        journal.force(false);
+        journalRecords++;
+        journalBytes += line.length;
+    }
+
+    private static byte[] toLine(Object instance) throws IOException {
+        return (JsonUtil.toCompactJsonString(instance) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void write(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Starts rewriting the snapshot in the background if the journal has grown large enough.
+     */
+    private void compactIfNeeded() {
+        if (isCompacting || (journalRecords < compactionThreshold && journalBytes < MAX_JOURNAL_BYTES)) {
+            return;
+        }
+        isCompacting = true;
+        List<Person> persons = new ArrayList<>(savedPersons);
+        long upToSequence = sequence;
+        int compactedRecords = journalRecords;
+        long compactedBytes = journalBytes;
+        compactor.execute(() -> compact(persons, upToSequence, compactedRecords, compactedBytes));
+    }
+
+    private void compact(List<Person> persons, long upToSequence, int compactedRecords, long compactedBytes) {
+        try {
+            JsonAdaptedJournalHeader header = writeSnapshot(persons, upToSequence);
+            trimJournal(header, compactedRecords, compactedBytes);
+            logger.fine("Compacted " + compactedRecords + " journal records into " + filePath);
+        } catch (IOException | RuntimeException e) {
+            // the journal still holds every record, so nothing is lost; compaction is retried on a later save
+            logger.warning("Could not compact journal " + journalPath + ": " + e);
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot and deletes the journal if the journal holds any records, on the calling thread.
+     * Only called while no compaction is running.
+     */
+    private synchronized void compactAll() throws IOException {
+        if (savedPersons == null || journalRecords == 0) {
+            return;
+        }
+        writeSnapshot(savedPersons, sequence);
+        deleteJournal();
+        logger.fine("Compacted the whole journal into " + filePath);
+    }
+
+    /**
+     * Atomically replaces the snapshot with {@code persons}, marked as including records up to {@code upToSequence}.
+     *
+     * @return the header of a journal made against the new snapshot.
+     */
+    private JsonAdaptedJournalHeader writeSnapshot(List<Person> persons, long upToSequence) throws IOException {
+        Path temp = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(temp);
+        JsonSerializableAddressBook.writeJsonFile(persons, upToSequence, temp);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        JsonAdaptedJournalHeader header =
+                new JsonAdaptedJournalHeader(upToSequence, Files.size(temp), DataFileChecksum.compute(temp));
+        FileUtil.replaceFile(temp, filePath);
+        checksum.record(filePath);
+        return header;
+    }
+
+    /**
+     * Drops the first {@code compactedBytes} of records from the journal, which are already in the snapshot, and
+     * replaces its header with {@code header}.
+     */
+    private synchronized void trimJournal(JsonAdaptedJournalHeader header, int compactedRecords, long compactedBytes)
+            throws IOException {
+        closeJournal();
+        Path temp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+        byte[] headerLine = toLine(header);
+        try (FileChannel in = FileChannel.open(journalPath, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(out, headerLine);
+            long size = in.size();
+            long position = journalHeaderBytes + compactedBytes;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+            out.force(true);
+        }
+        FileUtil.replaceFile(temp, journalPath);
+        journalHeaderBytes = headerLine.length;
+        journalRecords -= compactedRecords;
+        journalBytes -= compactedBytes;
+    }
+
+    private void deleteJournal() throws IOException {
+        closeJournal();
+        Files.deleteIfExists(journalPath);
+        journalRecords = 0;
+        journalBytes = 0;
+        journalHeaderBytes = 0;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Writes every change in the journal into the snapshot and deletes the journal, after any compaction started so
+     * far has finished. Blocks until done.
+     */
+    @Override
+    public void compactAddressBook() throws IOException {
+        try {
+            compactor.submit(() -> {
+                compactAll();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compacting " + journalPath);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits until any compaction started so far has finished.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactor.submit(() -> { }).get();
+    }
+
+}
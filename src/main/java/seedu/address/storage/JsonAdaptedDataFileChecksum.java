@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the checksum recorded next to a data file, together with the version of the app that
+ * wrote the file.
+ */
+class JsonAdaptedDataFileChecksum {
+
+    private final String appVersion;
+    private final long size;
+    private final long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedDataFileChecksum} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedDataFileChecksum(@JsonProperty("appVersion") String appVersion,
+                                       @JsonProperty("size") long size,
+                                       @JsonProperty("checksum") long checksum) {
+        this.appVersion = appVersion;
+        this.size = size;
+        this.checksum = checksum;
+    }
+
+    public String getAppVersion() {
+        return appVersion;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+}
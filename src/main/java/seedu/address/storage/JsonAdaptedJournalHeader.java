@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of the address book journal, which identifies the snapshot the
+ * journal records were made against.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final long snapshotSequence;
+    private final long snapshotSize;
+    private final long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotSequence") long snapshotSequence,
+                                    @JsonProperty("snapshotSize") long snapshotSize,
+                                    @JsonProperty("snapshotChecksum") long snapshotChecksum) {
+        this.snapshotSequence = snapshotSequence;
+        this.snapshotSize = snapshotSize;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    public long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    public long getSnapshotSize() {
+        return snapshotSize;
+    }
+
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+}
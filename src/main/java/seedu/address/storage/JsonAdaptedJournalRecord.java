@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the person list, as appended to the address book journal.
+ * <p>
+ * Every change is recorded as a splice: {@code removed} persons starting at {@code index} are replaced by
+ * {@code persons}. Adding, deleting and editing a person, as well as clearing or sorting the list, are all
+ * special cases of this.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal record %d does not fit the %d persons before it.";
+
+    private final long sequence;
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence,
+                                    @JsonProperty("index") int index,
+                                    @JsonProperty("removed") int removed,
+                                    @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.sequence = sequence;
+        this.index = index;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts a splice of the person list into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalRecord ofSplice(long sequence, int index, int removed, List<Person> inserted) {
+        return new JsonAdaptedJournalRecord(sequence, index, removed,
+                inserted.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to {@code target}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code target} or a person is invalid.
+     */
+    public void applyTo(List<Person> target) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_RANGE, sequence, target.size()));
+        }
+        List<Person> inserted = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            inserted.add(person.toModelType());
+        }
+        List<Person> range = target.subList(index, index + removed);
+        range.clear();
+        range.addAll(inserted);
+    }
+
+}
@@ -174,4 +174,33 @@ class JsonAdaptedPerson {
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags,
             modelRole, modelCadence, modelInteractions);
     }
+
+    /**
+     * Converts this adapted person into the model's {@code Person} object without validating its values.
+     * Only for persons this app wrote itself, in a file that has not changed since. A person whose values cannot
+     * be used as they are, such as a missing field, is converted by {@link #toModelType()} instead.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toTrustedModelType() throws IllegalValueException {
+        try {
+            return toUnvalidatedModelType();
+        } catch (RuntimeException e) {
+            return toModelType();
+        }
+    }
+
+    private Person toUnvalidatedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(Tag.ofTrusted(tag.getTagName()));
+        }
+        final List<Interaction> modelInteractions = this.interactions.stream()
+            .map(JsonAdaptedInteraction::toModelType)
+            .collect(Collectors.toList());
+
+        return new Person(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email),
+            Address.ofTrusted(address), modelTags, Role.ofTrusted(role), cadence == null ? null : new Cadence(cadence),
+            modelInteractions);
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded address book.
+ * <p>
+ * {@code segments} names the segment file holding each shard, and {@code order} holds one base-36 digit per person,
+ * naming the segment the person at that position of the address book comes from. Within a segment, persons are kept
+ * in the order they appear in the address book.
+ */
+class JsonAdaptedShardManifest {
+
+    private final long generation;
+    private final List<String> segments = new ArrayList<>();
+    private final String order;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("generation") long generation,
+                                    @JsonProperty("segments") List<String> segments,
+                                    @JsonProperty("order") String order) {
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+        this.order = order == null ? "" : order;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<String> getSegments() {
+        return segments;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+}
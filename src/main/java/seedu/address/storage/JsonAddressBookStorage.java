@@ -3,16 +3,21 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +27,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final DataFileChecksum checksum;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage that trusts the files it wrote itself while running as {@code appVersion},
+     * or that validates every file if {@code appVersion} is null.
+     */
+    public JsonAddressBookStorage(Path filePath, Version appVersion) {
         this.filePath = filePath;
+        this.checksum = new DataFileChecksum(appVersion);
     }
 
     public Path getAddressBookFilePath() {
@@ -43,20 +58,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return read(filePath, persons -> { });
+    }
+
+    /**
+     * Reads this storage's address book, handing its persons to {@code onPersonsRead} in batches as they are
+     * converted.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInBatches(Consumer<List<Person>> onPersonsRead)
+            throws DataLoadingException {
+        requireNonNull(onPersonsRead);
+        return read(filePath, onPersonsRead);
+    }
+
+    private Optional<ReadOnlyAddressBook> read(Path filePath, Consumer<List<Person>> onPersonsRead)
+            throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonSerializableAddressBook.readJsonFile(filePath, addressBook, checksum.isTrusted(filePath),
+                    onPersonsRead);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -74,7 +110,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonSerializableAddressBook.writeJsonFile(addressBook.getPersonList(), null, filePath);
+        checksum.record(filePath);
     }
 
 }
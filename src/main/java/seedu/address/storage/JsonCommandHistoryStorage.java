@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -38,4 +40,21 @@ public class JsonCommandHistoryStorage implements CommandHistoryStorage {
     public void saveCommandHistory(CommandHistory commandHistory) throws IOException {
         JsonUtil.saveJsonFile(commandHistory, filePath);
     }
+
+    /**
+     * {@inheritDoc}
+     * The whole file is rewritten, so {@link AppendOnlyCommandHistoryStorage} suits saving every command better.
+     */
+    @Override
+    public void appendCommand(String command) throws IOException {
+        requireNonNull(command);
+        CommandHistory commandHistory;
+        try {
+            commandHistory = readCommandHistory().orElseGet(CommandHistory::new);
+        } catch (DataLoadingException e) {
+            throw new IOException("Could not read " + filePath + " to add to it", e);
+        }
+        commandHistory.add(command);
+        saveCommandHistory(commandHistory);
+    }
 }
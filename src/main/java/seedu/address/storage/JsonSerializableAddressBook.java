@@ -1,17 +1,31 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,15 +34,26 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Address book file does not contain a JSON object.";
+    public static final String MESSAGE_INVALID_PERSON = "Person %d: %s";
+
+    /** Number of persons converted to the model by one task. */
+    static final int CONVERSION_CHUNK_SIZE = 1024;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
+    // sequence number of the last journal record already applied to this snapshot; absent if not journaled
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalSequence;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                       @JsonProperty("journalSequence") Long journalSequence) {
         this.persons.addAll(persons);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -38,23 +63,210 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        journalSequence = null;
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath} in the same format as this class, converting and writing one
+     * person at a time instead of building the whole document in memory.
+     *
+     * @param journalSequence the sequence number of the last journal record included, or null if not journaled.
+     */
+    public static void writeJsonFile(List<Person> persons, Long journalSequence, Path filePath) throws IOException {
+        JsonUtil.streamJsonFile(filePath, generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            if (journalSequence != null) {
+                generator.writeNumberField("journalSequence", journalSequence);
+            }
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code filePath} into {@code target}, validating the
+     * values of every person.
+     *
+     * @see #readJsonFile(Path, AddressBook, boolean)
+     */
+    public static long readJsonFile(Path filePath, AddressBook target) throws IOException, IllegalValueException {
+        return readJsonFile(filePath, target, false);
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code filePath} into {@code target}, replacing its
+     * contents. Persons are parsed one at a time and converted to the model in parallel chunks while the rest of
+     * the file is still being parsed, so the file and all the adapted persons are never held in memory at once.
+     * Unknown fields are skipped, as when reading this class with {@link JsonUtil#readJsonFile}.
+     *
+     * @param isTrusted whether the file was written by this app and is unchanged since, so that the values of its
+     *     persons need not be validated.
+     * @return the sequence number of the last journal record included in the file, or 0 if none.
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid person.
+     */
+    public static long readJsonFile(Path filePath, AddressBook target, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        return readJsonFile(filePath, target, isTrusted, persons -> { });
+    }
+
+    /**
+     * Similar to {@link #readJsonFile(Path, AddressBook, boolean)}, except that the persons are also handed to
+     * {@code onConverted} in order, one chunk at a time on the calling thread, as soon as they have been converted.
+     * Once any person is found invalid, no more chunks are handed over.
+     */
+    public static long readJsonFile(Path filePath, AddressBook target, boolean isTrusted,
+            Consumer<List<Person>> onConverted) throws IOException, IllegalValueException {
+        PersonConversion conversion = new PersonConversion(isTrusted, onConverted);
+        long fileJournalSequence = 0;
+        try (JsonParser parser = JsonUtil.openJsonFile(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals("persons") && value == JsonToken.START_ARRAY) {
+                    List<JsonAdaptedPerson> chunk = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        chunk.add(parser.readValueAs(JsonAdaptedPerson.class));
+                        if (chunk.size() == CONVERSION_CHUNK_SIZE) {
+                            conversion.submit(chunk);
+                            chunk = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+                        }
+                    }
+                    conversion.submit(chunk);
+                } else if (field.equals("journalSequence") && value.isNumeric()) {
+                    fileJournalSequence = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        setPersons(target, conversion.finish());
+        return fileJournalSequence;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in this snapshot, or 0 if none.
+     */
+    public long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are converted in parallel chunks.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid person.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        PersonConversion conversion = new PersonConversion(false, persons -> { });
+        for (int i = 0; i < persons.size(); i += CONVERSION_CHUNK_SIZE) {
+            conversion.submit(persons.subList(i, Math.min(i + CONVERSION_CHUNK_SIZE, persons.size())));
+        }
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        setPersons(addressBook, conversion.finish());
+        return addressBook;
+    }
+
+    /**
+     * Replaces the persons in {@code addressBook}, checking for duplicates by hashing instead of person by person.
+     */
+    private static void setPersons(AddressBook addressBook, List<Person> persons) throws IllegalValueException {
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    /**
+     * Converts adapted persons to the model on the common fork-join pool, one chunk per task, keeping their order.
+     * Only a few chunks are converted at a time so that a slow conversion holds back the caller instead of piling
+     * up adapted persons in memory. All conversions are attempted so that every invalid person can be reported.
+     */
+    private static class PersonConversion {
+        private static final int MAX_CHUNKS_IN_FLIGHT = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+
+        private final boolean isTrusted;
+        private final Consumer<List<Person>> onConverted;
+        private final Deque<ForkJoinTask<ConvertedChunk>> inFlight = new ArrayDeque<>();
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private int submittedCount;
+
+        PersonConversion(boolean isTrusted, Consumer<List<Person>> onConverted) {
+            this.isTrusted = isTrusted;
+            this.onConverted = onConverted;
+        }
+
+        /**
+         * Starts converting {@code chunk}, which must not change afterwards.
+         */
+        void submit(List<JsonAdaptedPerson> chunk) {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            int firstIndex = submittedCount;
+            submittedCount += chunk.size();
+            inFlight.add(ForkJoinPool.commonPool().submit(() -> convert(chunk, firstIndex, isTrusted)));
+            while (inFlight.size() > MAX_CHUNKS_IN_FLIGHT) {
+                collect(inFlight.remove());
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+
+        /**
+         * Waits for all conversions and returns the converted persons in the order they were submitted.
+         *
+         * @throws IllegalValueException if any person was invalid.
+         */
+        List<Person> finish() throws IllegalValueException {
+            while (!inFlight.isEmpty()) {
+                collect(inFlight.remove());
+            }
+            if (!errors.isEmpty()) {
+                throw new IllegalValueException(String.join("\n", errors));
+            }
+            return persons;
+        }
+
+        private void collect(ForkJoinTask<ConvertedChunk> task) {
+            ConvertedChunk chunk = task.join();
+            persons.addAll(chunk.persons);
+            errors.addAll(chunk.errors);
+            if (errors.isEmpty() && !chunk.persons.isEmpty()) {
+                onConverted.accept(Collections.unmodifiableList(chunk.persons));
+            }
+        }
+
+        private static ConvertedChunk convert(List<JsonAdaptedPerson> chunk, int firstIndex, boolean isTrusted) {
+            ConvertedChunk converted = new ConvertedChunk(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    converted.persons.add(isTrusted ? chunk.get(i).toTrustedModelType() : chunk.get(i).toModelType());
+                } catch (IllegalValueException ive) {
+                    converted.errors.add(String.format(MESSAGE_INVALID_PERSON, firstIndex + i + 1, ive.getMessage()));
+                }
+            }
+            return converted;
+        }
+    }
+
+    /**
+     * The outcome of converting one chunk of adapted persons.
+     */
+    private static class ConvertedChunk {
+        private final List<Person> persons;
+        private final List<String> errors = new ArrayList<>();
+
+        ConvertedChunk(int size) {
+            persons = new ArrayList<>(size);
+        }
     }
 
 }
@@ -2,8 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -14,6 +18,8 @@ import seedu.address.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -32,11 +38,23 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * Prefs with values that are not allowed are set to their defaults, with a warning.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataLoadingException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> prefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        if (!prefs.isPresent()) {
+            return prefs;
+        }
+
+        List<String> invalidPrefs = new ArrayList<>();
+        UserPrefs validPrefs = UserPrefs.withInvalidPrefsReset(prefs.get(), invalidPrefs);
+        if (!invalidPrefs.isEmpty()) {
+            logger.warning("Invalid values of " + String.join(", ", invalidPrefs) + " in " + prefsFilePath
+                    + ". Using the defaults for them instead.");
+        }
+        return Optional.of(validPrefs);
     }
 
     @Override
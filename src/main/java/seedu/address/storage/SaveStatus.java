@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Progress of saving the address book: waiting to be written, written, or failed to be written.
+ * Guarantees: immutable.
+ */
+public class SaveStatus {
+
+    /**
+     * The stages a save goes through.
+     */
+    public enum State {
+        PENDING, SAVED, FAILED
+    }
+
+    private final State state;
+    private final Instant time;
+    private final IOException error;
+
+    private SaveStatus(State state, Instant time, IOException error) {
+        this.state = state;
+        this.time = time;
+        this.error = error;
+    }
+
+    /**
+     * Returns a status for changes that have not been written yet.
+     */
+    public static SaveStatus pending() {
+        return new SaveStatus(State.PENDING, Instant.now(), null);
+    }
+
+    /**
+     * Returns a status for changes that were all written at {@code time}.
+     */
+    public static SaveStatus saved(Instant time) {
+        requireNonNull(time);
+        return new SaveStatus(State.SAVED, time, null);
+    }
+
+    /**
+     * Returns a status for a write that failed with {@code error}.
+     */
+    public static SaveStatus failed(IOException error) {
+        requireNonNull(error);
+        return new SaveStatus(State.FAILED, Instant.now(), error);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns when this status was reached.
+     */
+    public Instant getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the error a failed save ended with, or null if the save has not failed.
+     */
+    public IOException getError() {
+        return error;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveStatus)) {
+            return false;
+        }
+
+        SaveStatus otherStatus = (SaveStatus) other;
+        return state == otherStatus.state
+                && time.equals(otherStatus.time)
+                && Objects.equals(error, otherStatus.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, time, error);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("state", state)
+                .add("time", time)
+                .add("error", error)
+                .toString();
+    }
+
+}
@@ -0,0 +1,410 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Version;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data split by name across a fixed number of json segment files, plus a manifest
+ * naming the current segment files and the order of persons across them.
+ * <p>
+ * Saving rewrites only the segments whose persons changed since the last save, each under a new file name, and then
+ * atomically replaces the manifest, so an interrupted save leaves the previous version readable. Segment files the
+ * manifest no longer names are deleted afterwards. Reading loads the segments in parallel.
+ * <p>
+ * The segments live in a directory next to the address book file. While that directory holds no manifest, the
+ * address book file is read as before, journal included, and it is moved into segments by the first save.
+ * Once it holds a manifest, {@link AddressBookFormat} keeps reading the address book from the segments even if
+ * splitting is turned off again, see {@link #getSegmentCount(Path)}.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_INVALID_SEGMENT_COUNT = "An address book can be split into 1 to "
+            + Character.MAX_RADIX + " segments.";
+    public static final String MESSAGE_INCONSISTENT_MANIFEST = "The manifest in %s does not match its segment files.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_FORMAT = SEGMENT_FILE_PREFIX + "%02d-%d.json";
+
+    private final Path filePath;
+    private final Path shardDirectory;
+    private final Path manifestPath;
+    private final int segmentCount;
+    private final JsonAddressBookStorage jsonStorage;
+    private final Version appVersion;
+
+    // The fields below are guarded by this storage's lock
+    private List<List<Person>> savedSegments; // null until the segments have been read or fully written once
+    private List<String> segmentFiles = List.of();
+    private String savedOrder = "";
+    private long generation;
+    private JournaledAddressBookStorage unshardedStorage; // set while an unsharded address book awaits moving
+
+    /**
+     * Creates a storage that splits the address book at {@code filePath} into {@code segmentCount} segments.
+     */
+    public ShardedAddressBookStorage(Path filePath, int segmentCount) {
+        this(filePath, segmentCount, null);
+    }
+
+    /**
+     * Creates a storage that splits the address book at {@code filePath} into {@code segmentCount} segments, and
+     * trusts an unsplit address book file it finds there if this app wrote it while running as {@code appVersion}.
+     */
+    public ShardedAddressBookStorage(Path filePath, int segmentCount, Version appVersion) {
+        requireNonNull(filePath);
+        // the manifest spends one base-36 digit on each person's segment
+        checkArgument(segmentCount >= 1 && segmentCount <= Character.MAX_RADIX, MESSAGE_INVALID_SEGMENT_COUNT);
+        this.filePath = filePath;
+        this.shardDirectory = shardDirectoryOf(filePath);
+        this.manifestPath = shardDirectory.resolve(MANIFEST_FILE_NAME);
+        this.segmentCount = segmentCount;
+        this.jsonStorage = new JsonAddressBookStorage(filePath, appVersion);
+        this.appVersion = appVersion;
+    }
+
+    /**
+     * Returns the number of segments the address book at {@code filePath} is split into, or 0 if it has not been
+     * split. A manifest that cannot be read counts as one segment, so that reading the address book fails on it
+     * rather than reading the unsplit file it replaced.
+     */
+    public static int getSegmentCount(Path filePath) {
+        requireNonNull(filePath);
+        Path manifestPath = shardDirectoryOf(filePath).resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return 0;
+        }
+        try {
+            return JsonUtil.readJsonFile(manifestPath, JsonAdaptedShardManifest.class)
+                    .map(manifest -> manifest.getSegments().size())
+                    .filter(count -> count >= 1 && count <= Character.MAX_RADIX)
+                    .orElse(1);
+        } catch (DataLoadingException dle) {
+            return 1;
+        }
+    }
+
+    private static Path shardDirectoryOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getShardDirectory() {
+        return shardDirectory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than this storage's own are read as plain json address books.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        synchronized (this) {
+            Optional<JsonAdaptedShardManifest> manifest =
+                    JsonUtil.readJsonFile(manifestPath, JsonAdaptedShardManifest.class);
+            if (!manifest.isPresent()) {
+                return readUnsharded();
+            }
+
+            try {
+                List<List<Person>> segments = readSegments(manifest.get().getSegments());
+                AddressBook addressBook = new AddressBook();
+                addressBook.setPersons(merge(segments, manifest.get().getOrder()));
+                savedSegments = segments;
+                segmentFiles = List.copyOf(manifest.get().getSegments());
+                savedOrder = manifest.get().getOrder();
+                generation = manifest.get().getGeneration();
+                unshardedStorage = null;
+                return Optional.of(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + shardDirectory + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            } catch (DuplicatePersonException dpe) {
+                logger.info("Duplicate persons found in " + shardDirectory);
+                throw new DataLoadingException(new IllegalValueException(
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            } catch (IOException ioe) {
+                logger.warning("Error reading from segments in " + shardDirectory + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+        }
+    }
+
+    /**
+     * Reads the address book file that has not been split into segments yet, if there is one.
+     */
+    private Optional<ReadOnlyAddressBook> readUnsharded() throws DataLoadingException {
+        JournaledAddressBookStorage unsharded = new JournaledAddressBookStorage(filePath, appVersion);
+        Optional<ReadOnlyAddressBook> addressBook = unsharded.readAddressBook();
+        if (addressBook.isPresent()) {
+            logger.info(filePath + " will be split into segments in " + shardDirectory + " when next saved.");
+            unshardedStorage = unsharded;
+        }
+        savedSegments = null;
+        return addressBook;
+    }
+
+    /**
+     * Reads the segment files named {@code fileNames} in parallel, returning the persons of each in file order.
+     */
+    private List<List<Person>> readSegments(List<String> fileNames) throws IOException, IllegalValueException {
+        List<Callable<List<Person>>> reads = new ArrayList<>(fileNames.size());
+        for (String fileName : fileNames) {
+            Path segmentPath = shardDirectory.resolve(fileName);
+            reads.add(() -> readSegment(segmentPath));
+        }
+
+        List<List<Person>> segments = new ArrayList<>(fileNames.size());
+        for (Future<List<Person>> read : ForkJoinPool.commonPool().invokeAll(reads)) {
+            try {
+                segments.add(read.get());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading " + shardDirectory);
+            } catch (ExecutionException ee) {
+                // the common pool wraps checked exceptions thrown by a Callable in a RuntimeException
+                Throwable cause = ee.getCause();
+                if (cause instanceof RuntimeException && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        return segments;
+    }
+
+    private static List<Person> readSegment(Path segmentPath) throws IOException, IllegalValueException {
+        AddressBook segment = new AddressBook();
+        JsonSerializableAddressBook.readJsonFile(segmentPath, segment);
+        return new ArrayList<>(segment.getPersonList());
+    }
+
+    /**
+     * Interleaves the persons of {@code segments} in the order given by the manifest.
+     *
+     * @throws IllegalValueException if {@code order} does not account for every person of every segment exactly once.
+     */
+    private List<Person> merge(List<List<Person>> segments, String order) throws IllegalValueException {
+        int[] taken = new int[segments.size()];
+        List<Person> persons = new ArrayList<>(order.length());
+        for (int i = 0; i < order.length(); i++) {
+            int segment = Character.digit(order.charAt(i), Character.MAX_RADIX);
+            if (segment < 0 || segment >= segments.size() || taken[segment] == segments.get(segment).size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT_MANIFEST, shardDirectory));
+            }
+            persons.add(segments.get(segment).get(taken[segment]++));
+        }
+        for (int segment = 0; segment < segments.size(); segment++) {
+            if (taken[segment] != segments.get(segment).size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT_MANIFEST, shardDirectory));
+            }
+        }
+        return persons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than this storage's own are written in full as plain json address books.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        synchronized (this) {
+            List<List<Person>> segments = new ArrayList<>(segmentCount);
+            for (int segment = 0; segment < segmentCount; segment++) {
+                segments.add(new ArrayList<>());
+            }
+            List<Person> persons = addressBook.getPersonList();
+            StringBuilder order = new StringBuilder(persons.size());
+            for (Person person : persons) {
+                int segment = segmentOf(person);
+                segments.get(segment).add(person);
+                order.append(Character.forDigit(segment, Character.MAX_RADIX));
+            }
+
+            boolean isChanged = savedSegments == null || savedSegments.size() != segmentCount
+                    || !savedOrder.contentEquals(order);
+            long nextGeneration = generation + 1;
+            List<String> files = new ArrayList<>(segmentCount);
+            for (int segment = 0; segment < segmentCount; segment++) {
+                if (savedSegments != null && segment < savedSegments.size()
+                        && isSameSegment(savedSegments.get(segment), segments.get(segment))) {
+                    files.add(segmentFiles.get(segment));
+                    continue;
+                }
+                String fileName = String.format(SEGMENT_FILE_FORMAT, segment, nextGeneration);
+                writeSegment(segments.get(segment), shardDirectory.resolve(fileName));
+                files.add(fileName);
+                isChanged = true;
+            }
+            if (!isChanged) {
+                return;
+            }
+
+            writeManifest(new JsonAdaptedShardManifest(nextGeneration, files, order.toString()));
+            savedSegments = segments;
+            segmentFiles = files;
+            savedOrder = order.toString();
+            generation = nextGeneration;
+            deleteUnusedSegments();
+            if (unshardedStorage != null) {
+                deleteUnsharded();
+            }
+        }
+    }
+
+    /**
+     * Compacts the journal of an address book file that has not been split into segments yet. The segments
+     * themselves are always written in full.
+     */
+    @Override
+    public synchronized void compactAddressBook() throws IOException {
+        if (unshardedStorage != null) {
+            unshardedStorage.compactAddressBook();
+        }
+    }
+
+    /**
+     * Returns the segment {@code person} is kept in, which depends only on the name so that editing any other field
+     * leaves the person in place. Reading does not rely on this, so the hash need not stay the same across versions.
+     */
+    private int segmentOf(Person person) {
+        return Math.floorMod(person.getName().hashCode(), segmentCount);
+    }
+
+    /**
+     * Returns true if {@code current} holds the very same persons as {@code saved}.
+     * Persons are immutable, so unchanged persons are recognised by identity.
+     */
+    private static boolean isSameSegment(List<Person> saved, List<Person> current) {
+        if (saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeSegment(List<Person> persons, Path segmentPath) throws IOException {
+        Files.createDirectories(shardDirectory);
+        JsonSerializableAddressBook.writeJsonFile(persons, null, segmentPath);
+        try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Atomically replaces the manifest, which makes the segment files it names the current version.
+     */
+    private void writeManifest(JsonAdaptedShardManifest manifest) throws IOException {
+        Files.createDirectories(shardDirectory);
+        Path temp = shardDirectory.resolve(MANIFEST_FILE_NAME + ".tmp");
+        JsonUtil.saveJsonFile(manifest, temp);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        FileUtil.replaceFile(temp, manifestPath);
+    }
+
+    /**
+     * Deletes the segment files the manifest no longer names, including any left by an interrupted save.
+     */
+    private void deleteUnusedSegments() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, SEGMENT_FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!segmentFiles.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            // the manifest is already written, so the stale files are only wasted space
+            logger.warning("Could not delete unused segments in " + shardDirectory + ": " + ioe);
+        }
+    }
+
+    /**
+     * Deletes the address book file and journal that have now been split into segments.
+     */
+    private void deleteUnsharded() {
+        try {
+            unshardedStorage.awaitCompaction();
+            Files.deleteIfExists(unshardedStorage.getJournalFilePath());
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(DataFileChecksum.getChecksumFilePath(filePath));
+            logger.info("Split " + filePath + " into segments in " + shardDirectory);
+            unshardedStorage = null;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | IOException e) {
+            // the manifest takes precedence over the old file when reading, so it is only wasted space
+            logger.warning("Could not delete " + filePath + " after splitting it into segments: " + e);
+        }
+    }
+
+}
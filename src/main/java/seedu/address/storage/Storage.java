@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -30,10 +31,32 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Records that the address book file holds the same persons as {@code addressBook}, e.g. one the address book
+     * read from the file was just copied into, so that saving {@code addressBook} before it changes writes nothing.
+     */
+    void markAddressBookSaved(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Blocks until every address book save requested so far has been written, and the address book file holds them
+     * on its own.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the listener that is told about the progress of address book saves.
+     * It may be called from a background thread.
+     */
+    void setSaveStatusListener(Consumer<SaveStatus> listener);
+
     Path getCommandHistoryFilePath();
 
     Optional<CommandHistory> readCommandHistory() throws DataLoadingException;
 
     void saveCommandHistory(CommandHistory commandHistory) throws IOException;
 
+    void appendCommand(String command) throws IOException;
+
 }
@@ -1,15 +1,22 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.ui.CommandHistory;
 
 /**
@@ -18,12 +25,25 @@ import seedu.address.ui.CommandHistory;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final long NO_VERSION = -1;
+
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private CommandHistoryStorage commandHistoryStorage;
+    private AddressBookSaveService saveService; // null if the address book is saved synchronously
+    private Consumer<SaveStatus> saveStatusListener = status -> { };
+    // version of the address book last written, queued for writing or read, reset when a write fails; set on the
+    // loading thread at startup
+    private volatile long lastSavedVersion = NO_VERSION;
+
+    // guarded by this storage's lock, as writes may happen on a background thread
+    private long writeCount;
+    private long writeNanos;
+    private long skippedSaveCount;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * The address book is written as soon as it is saved.
      */
     public StorageManager(AddressBookStorage addressBookStorage,
                           UserPrefsStorage userPrefsStorage,
@@ -33,6 +53,18 @@ public class StorageManager implements Storage {
         this.commandHistoryStorage = commandHistoryStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} that writes the address book in the background, once saves have stopped
+     * arriving for {@code saveDelayMillis}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage,
+                          UserPrefsStorage userPrefsStorage,
+                          CommandHistoryStorage commandHistoryStorage,
+                          long saveDelayMillis) {
+        this(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        this.saveService = new AddressBookSaveService(this::writeAddressBook, saveDelayMillis);
+    }
+
     // ================ CommandHistoryStorage methods ==============================
     public Path getCommandHistoryFilePath() {
         return commandHistoryStorage != null ? commandHistoryStorage.getCommandHistoryFilePath() : null;
@@ -54,6 +86,18 @@ public class StorageManager implements Storage {
         }
     }
 
+    /**
+     * Adds {@code command} to the end of the stored command history.
+     *
+     * @param command Command just entered.
+     * @throws IOException If saving fails.
+     */
+    public void appendCommand(String command) throws IOException {
+        if (commandHistoryStorage != null) {
+            commandHistoryStorage.appendCommand(command);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -84,21 +128,135 @@ public class StorageManager implements Storage {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Reads the address book in {@code filePath}. An address book read from the address book file is known to be
+     * saved, so saving it before it changes writes nothing.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            addressBook.ifPresent(this::markAddressBookSaved);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInBatches(Consumer<List<Person>> onPersonsRead)
+            throws DataLoadingException {
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBookInBatches(onPersonsRead);
+        addressBook.ifPresent(this::markAddressBookSaved);
+        return addressBook;
     }
 
+    @Override
+    public void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        lastSavedVersion = addressBook.getModificationVersion();
+    }
+
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage.
+     * Nothing is done if the address book has not been modified since it was last saved.
+     * When saving in the background, an immutable snapshot is queued and this returns without writing;
+     * the outcome is reported to the save status listener instead.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        long version = addressBook.getModificationVersion();
+        if (version == lastSavedVersion) {
+            recordSkippedSave();
+            return;
+        }
+        if (saveService == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+        ReadOnlyAddressBook snapshot = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).snapshot()
+                : new AddressBook(addressBook);
+        lastSavedVersion = version;
+        saveService.requestSave(snapshot);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (!filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        try {
+            writeAddressBook(addressBook);
+        } catch (IOException e) {
+            saveStatusListener.accept(SaveStatus.failed(e));
+            throw e;
+        }
+        lastSavedVersion = addressBook.getModificationVersion();
+        saveStatusListener.accept(SaveStatus.saved(Instant.now()));
+    }
+
+    /**
+     * Blocks until every address book save requested so far has been written, and then compacts the address book
+     * file so that it holds them all on its own.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (saveService != null) {
+            saveService.flush();
+        }
+        addressBookStorage.compactAddressBook();
+        synchronized (this) {
+            if (skippedSaveCount > 0) {
+                logger.info(describeSkippedSaves());
+            }
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the address book file, keeping track of how long writes take.
+     * After a failed write, no save is skipped until one succeeds or the address book is read again.
+     */
+    private void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        long start = System.nanoTime();
+        try {
+            addressBookStorage.saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        } catch (IOException | RuntimeException e) {
+            // the version that failed may be the one last queued, so the next save must not be skipped
+            lastSavedVersion = NO_VERSION;
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        synchronized (this) {
+            writeCount++;
+            writeNanos += elapsed;
+        }
+    }
+
+    private synchronized void recordSkippedSave() {
+        skippedSaveCount++;
+        logger.fine(describeSkippedSaves());
+    }
+
+    /**
+     * Describes how many saves were skipped because nothing had changed, and roughly how much writing that avoided
+     * going by the average time of the writes done so far.
+     */
+    private synchronized String describeSkippedSaves() {
+        long averageWriteNanos = writeCount == 0 ? 0 : writeNanos / writeCount;
+        return String.format("Skipped %d saves of an unchanged address book, avoiding about %d ms of writing",
+                skippedSaveCount, skippedSaveCount * averageWriteNanos / 1_000_000);
+    }
+
+    @Override
+    public void setSaveStatusListener(Consumer<SaveStatus> listener) {
+        requireNonNull(listener);
+        saveStatusListener = listener;
+        if (saveService != null) {
+            saveService.setListener(listener);
+        }
     }
 
 }
@@ -1,17 +1,29 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * Manages the history of user-entered commands.
+ * Only the most recent commands are kept, up to a fixed capacity; adding beyond it drops the oldest command.
  */
 public class CommandHistory {
-    private List<String> history = new ArrayList<>();
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final String[] entries; // a ring of the kept commands, the oldest at index start
+    private int start = 0;
+    private int size = 0;
     private int pointer = 0;
+    private Consumer<String> onAdded = command -> { };
 
     /**
      * Creates a {@code CommandHistory} from the given list of commands.
@@ -20,27 +32,54 @@ public class CommandHistory {
      */
     @JsonCreator
     public CommandHistory(@JsonProperty("history") List<String> history) {
-        this.history = (history != null) ? new ArrayList<>(history) : new ArrayList<>();
-        this.pointer = this.history.size();
+        this(history, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code CommandHistory} keeping the most recent {@code capacity} commands of {@code history}.
+     *
+     * @param history List of past commands, may be {@code null}.
+     */
+    public CommandHistory(List<String> history, int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        this.entries = new String[capacity];
+        if (history != null) {
+            for (String command : history.subList(Math.max(0, history.size() - capacity), history.size())) {
+                addEntry(command);
+            }
+        }
     }
 
     public CommandHistory() {
-        this.history = new ArrayList<>();
+        this(null, DEFAULT_CAPACITY);
     }
 
+    /**
+     * Returns the kept commands, oldest first.
+     */
     public List<String> getHistory() {
+        List<String> history = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            history.add(entryAt(i));
+        }
         return history;
     }
 
+    /**
+     * Sets the listener told about each command added from now on, e.g. to persist it.
+     */
+    @JsonIgnore
+    public void setOnAdded(Consumer<String> onAdded) {
+        this.onAdded = requireNonNull(onAdded);
+    }
+
     /**
      * Adds a command to the history and resets the pointer to the end.
      */
     public void add(String command) {
-        if (command == null || command.trim().isEmpty()) {
-            return;
+        if (addEntry(command)) {
+            onAdded.accept(command);
         }
-        history.add(command);
-        pointer = history.size(); // reset pointer to after the last element
     }
 
     /**
@@ -48,11 +87,11 @@ public class CommandHistory {
      * Returns null if there is no previous command.
      */
     public String getPrevious() {
-        if (history.isEmpty() || pointer == 0) {
+        if (size == 0 || pointer == 0) {
             return null;
         }
         pointer--;
-        return history.get(pointer);
+        return entryAt(pointer);
     }
 
     /**
@@ -60,14 +99,14 @@ public class CommandHistory {
      * Returns an empty string if at the newest position.
      */
     public String getNext() {
-        if (history.isEmpty()) {
+        if (size == 0) {
             return "";
         }
-        if (pointer < history.size() - 1) {
+        if (pointer < size - 1) {
             pointer++;
-            return history.get(pointer);
+            return entryAt(pointer);
         } else {
-            pointer = history.size();
+            pointer = size;
             return "";
         }
     }
@@ -76,7 +115,30 @@ public class CommandHistory {
      * Clears all stored history.
      */
     public void clear() {
-        history.clear();
+        for (int i = 0; i < size; i++) {
+            entries[(start + i) % entries.length] = null;
+        }
+        start = 0;
+        size = 0;
         pointer = 0;
     }
+
+    private boolean addEntry(String command) {
+        if (command == null || command.trim().isEmpty()) {
+            return false;
+        }
+        if (size == entries.length) {
+            entries[start] = command; // overwrites the oldest command
+            start = (start + 1) % entries.length;
+        } else {
+            entries[(start + size) % entries.length] = command;
+            size++;
+        }
+        pointer = size; // reset pointer to after the last element
+        return true;
+    }
+
+    private String entryAt(int index) {
+        return entries[(start + index) % entries.length];
+    }
 }
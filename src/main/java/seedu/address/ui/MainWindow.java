@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListView;
@@ -16,9 +20,13 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.LoadStatus;
+import seedu.address.storage.SaveStatus;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -26,6 +34,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_RUNNING_IN_BACKGROUND = "Running in the background: %s";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "The command stopped because of an unexpected error: %s";
+    public static final String MESSAGE_BUSY = "Still running: %s\nEnter the command again once it is done.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -33,11 +45,18 @@ public class MainWindow extends UiPart<Stage> {
     private Stage primaryStage;
     private Logic logic;
     private final CommandHistory commandHistory;
+    private final Executor commandPreparer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-preparer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private String pendingCommandText; // the command prepared in the background, null if none; JavaFX thread only
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private PersonDetailsPanel personDetailsPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -132,8 +151,10 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter.setUndoStatus(logic.getUndoStepCount(), logic.getUndoMemoryEstimate());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setSaveStatusListener(status -> Platform.runLater(() -> handleSaveStatus(status)));
 
         CommandBox commandBox = new CommandBox(this::executeCommand, commandHistory);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -205,30 +226,112 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Shows the progress of loading the address book at startup.
+     */
+    void handleLoadStatus(LoadStatus status) {
+        statusBarFooter.setLoadStatus(status);
+    }
+
+    /**
+     * Shows the progress of saving the address book, which may complete after the command that caused it.
+     */
+    private void handleSaveStatus(SaveStatus status) {
+        statusBarFooter.setSaveStatus(status);
+        if (status.getState() == SaveStatus.State.FAILED) {
+            resultDisplay.setFeedbackToUser(LogicManager.getSaveErrorMessage(status.getError()));
+        }
+    }
+
     /**
      * Executes the command and returns the result.
+     * A command whose preparation may be slow is prepared on a background thread and executed afterwards, so the
+     * result returned for it only says that it has started. Until it is done, every other command is rejected, so
+     * that commands still change the model in the order they were entered and undo reverts the latest of them.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+            if (pendingCommandText != null) {
+                throw new CommandException(String.format(MESSAGE_BUSY, pendingCommandText));
             }
-
-            if (commandResult.isExit()) {
-                handleExit();
+            Command command = logic.parseCommand(commandText);
+            if (command.isPreparedInBackground()) {
+                return prepareInBackground(commandText, command);
             }
 
-            return commandResult;
+            command.prepare();
+            return handleCommandResult(logic.execute(command));
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
+            handleCommandFailure(commandText, e.getMessage());
             throw e;
+        } finally {
+            statusBarFooter.setUndoStatus(logic.getUndoStepCount(), logic.getUndoMemoryEstimate());
+        }
+    }
+
+    /**
+     * Prepares {@code command} on the background thread and then executes it on the JavaFX thread.
+     * The command stays pending until it has been executed or has failed.
+     */
+    private CommandResult prepareInBackground(String commandText, Command command) {
+        pendingCommandText = commandText;
+        commandPreparer.execute(() -> {
+            try {
+                command.prepare();
+                Platform.runLater(() -> executePrepared(commandText, command));
+            } catch (CommandException e) {
+                Platform.runLater(() -> handlePreparationFailure(commandText, e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Unexpected error while preparing command: " + commandText, e);
+                Platform.runLater(() -> handlePreparationFailure(commandText,
+                        String.format(MESSAGE_UNEXPECTED_ERROR, e)));
+            }
+        });
+
+        CommandResult startedResult = new CommandResult(String.format(MESSAGE_RUNNING_IN_BACKGROUND, commandText));
+        logger.info("Result: " + startedResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(startedResult.getFeedbackToUser());
+        return startedResult;
+    }
+
+    /**
+     * Executes a command that has been prepared in the background.
+     */
+    private void executePrepared(String commandText, Command command) {
+        pendingCommandText = null;
+        try {
+            handleCommandResult(logic.execute(command));
+        } catch (CommandException e) {
+            handleCommandFailure(commandText, e.getMessage());
+        } finally {
+            statusBarFooter.setUndoStatus(logic.getUndoStepCount(), logic.getUndoMemoryEstimate());
+        }
+    }
+
+    private void handlePreparationFailure(String commandText, String message) {
+        pendingCommandText = null;
+        handleCommandFailure(commandText, message);
+    }
+
+    private CommandResult handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
         }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        return commandResult;
+    }
+
+    private void handleCommandFailure(String commandText, String message) {
+        logger.info("An error occurred while executing command: " + commandText);
+        resultDisplay.setFeedbackToUser(message);
     }
 }
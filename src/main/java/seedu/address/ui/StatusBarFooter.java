@@ -2,10 +2,14 @@ package seedu.address.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.LoadStatus;
+import seedu.address.storage.SaveStatus;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,9 +17,17 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final DateTimeFormatter SAVE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label saveStatus;
+    @FXML
+    private Label undoStatus;
+    @FXML
+    private Label loadStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +37,55 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows whether the latest changes have been written to disk.
+     */
+    public void setSaveStatus(SaveStatus status) {
+        switch (status.getState()) {
+        case PENDING:
+            saveStatus.setText("Saving...");
+            break;
+        case SAVED:
+            saveStatus.setText("Saved at " + SAVE_TIME_FORMATTER.format(status.getTime()));
+            break;
+        default:
+            saveStatus.setText("Save failed");
+            break;
+        }
+    }
+
+    /**
+     * Shows how many persons have been loaded and, once all are loaded, how long startup took.
+     */
+    public void setLoadStatus(LoadStatus status) {
+        if (status.getState() == LoadStatus.State.LOADING) {
+            loadStatus.setText(String.format("Loading... %d persons", status.getPersonCount()));
+            return;
+        }
+        if (status.getState() == LoadStatus.State.FAILED) {
+            loadStatus.setText("Could not load the address book, started with an empty one: " + status.getError());
+            return;
+        }
+        loadStatus.setText(String.format("Loaded %d persons (window %.1f s, all %.1f s)", status.getPersonCount(),
+                status.getTimeToWindow().toMillis() / 1000.0, status.getTimeToLoaded().toMillis() / 1000.0));
+    }
+
+    /**
+     * Shows how many changes can be undone and roughly how much memory the undo history holds.
+     */
+    public void setUndoStatus(int undoSteps, long undoMemoryBytes) {
+        undoStatus.setText(String.format("Undo: %d step%s (~%s)", undoSteps, undoSteps == 1 ? "" : "s",
+                formatBytes(undoMemoryBytes)));
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import javafx.stage.Stage;
+import seedu.address.model.LoadStatus;
 
 /**
  * API of UI component
@@ -10,4 +11,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage, CommandHistory commandHistory);
 
+    /** Shows the progress of loading the address book. Must be called on the JavaFX application thread. */
+    void showLoadStatus(LoadStatus status);
+
 }
@@ -11,6 +11,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.model.LoadStatus;
 
 /**
  * The manager of the UI component.
@@ -50,6 +51,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoadStatus(LoadStatus status) {
+        if (mainWindow != null) {
+            mainWindow.handleLoadStatus(status);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
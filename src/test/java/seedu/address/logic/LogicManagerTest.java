@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,9 +13,11 @@ import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ROLE_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,10 +25,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -88,6 +97,70 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void parseCommand_validCommand_executedOnlyWhenAsked() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+        Command command = logic.parseCommand(addCommand);
+        assertFalse(model.hasPerson(AMY));
+
+        command.prepare();
+        logic.execute(command);
+        assertTrue(model.hasPerson(AMY));
+        assertEquals(1, logic.getUndoStepCount());
+    }
+
+    @Test
+    public void execute_whileLoading_onlyReadOnlyCommandsRunAndNothingSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("loadingAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonCommandHistoryStorage(temporaryFolder.resolve("commandHistory.json")));
+        ModelManager loadingModel = ModelManager.loading(new UserPrefs());
+        logic = new LogicManager(loadingModel, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+        assertThrows(CommandException.class, LogicManager.MESSAGE_STILL_LOADING, () -> logic.execute(addCommand));
+        assertThrows(CommandException.class, LogicManager.MESSAGE_STILL_LOADING, () ->
+                logic.execute(UndoCommand.COMMAND_WORD));
+        assertThrows(CommandException.class, LogicManager.MESSAGE_STILL_LOADING, () ->
+                logic.execute(RedoCommand.COMMAND_WORD));
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+
+        loadingModel.finishLoading(new AddressBook());
+        logic.execute(addCommand);
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_readOnlyCommandRightAfterLoading_addressBookNotWritten() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("loadedAddressBook.json");
+        new JsonAddressBookStorage(addressBookPath).saveAddressBook(getTypicalAddressBook());
+        int[] writes = new int[1];
+        JsonAddressBookStorage countingStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writes[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(countingStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonCommandHistoryStorage(temporaryFolder.resolve("commandHistory.json")));
+        ModelManager loadingModel = ModelManager.loading(new UserPrefs());
+        logic = new LogicManager(loadingModel, storage);
+
+        // as the app does at startup
+        loadingModel.finishLoading(storage.readAddressBook().get());
+        storage.markAddressBookSaved(loadingModel.getAddressBook());
+
+        logic.execute(HelpCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, writes[0]);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
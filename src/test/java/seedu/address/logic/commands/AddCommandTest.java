@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -124,6 +125,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -172,6 +178,26 @@ public class AddCommandTest {
         public boolean undoState() {
             return false; // not required for this test
         }
+
+        @Override
+        public boolean redoState() {
+            return false; // not required for this test
+        }
+
+        @Override
+        public int getUndoStepCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isLoading() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUndoMemoryEstimate() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
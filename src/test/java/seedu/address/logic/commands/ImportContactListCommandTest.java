@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -25,6 +26,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.CsvTokenizer;
 
 /**
  * Integration tests for {@link ImportContactListCommand}.
@@ -115,6 +117,33 @@ public class ImportContactListCommandTest {
         );
     }
 
+    /**
+     * Verifies that contacts read by prepare are imported by execute without reading the file again.
+     */
+    @Test
+    public void execute_afterPrepare_importsPreparedContacts() throws Exception {
+        ImportContactListCommand command = new ImportContactListCommand(VALID_FILE);
+        command.prepare();
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+
+        Files.delete(VALID_FILE);
+        CommandResult result = command.execute(model);
+
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(String.format(ImportContactListCommand.MESSAGE_SUCCESS, 2, VALID_FILE),
+                result.getFeedbackToUser());
+    }
+
+    /**
+     * Verifies that a file without valid contacts fails to prepare, before the model is touched.
+     */
+    @Test
+    public void prepare_invalidFile_throwsCommandException() {
+        ImportContactListCommand command = new ImportContactListCommand(INVALID_FILE);
+        assertTrue(command.isPreparedInBackground());
+        assertThrows(CommandException.class, command::prepare);
+    }
+
     /**
      * Verifies that an error is thrown if the specified file does not exist.
      */
@@ -195,4 +224,63 @@ public class ImportContactListCommandTest {
         assertEquals(1, model.getAddressBook().getPersonList().size());
         Files.deleteIfExists(f);
     }
+
+    @Test
+    public void execute_rowsSpanningManyBatches_importedInFileOrder() throws Exception {
+        Path f = TEST_DIR.resolve("large_contacts.csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("name,phone,email,address,tags,role,cadence,interactions");
+        for (int i = 0; i < 5000; i++) {
+            lines.add("Person " + i + "," + (80000000 + i) + ",p" + i + "@example.com,Blk " + i + ",,Lead,,");
+        }
+        lines.add("Person 10,80000010,p10@example.com,Blk 10,,Lead,,"); // duplicate of a row in the first batch
+        lines.add("Bad Person,,bad@example.com,Blk 0,,Lead,,"); // missing phone
+        model.addPerson(new Person(new Name("Person 4999"), new Phone("99999999"), new Email("x@example.com"),
+                new Address("Elsewhere"), Set.of()));
+        Files.write(f, lines);
+
+        CommandResult result = new ImportContactListCommand(f).execute(model);
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(String.format(ImportContactListCommand.MESSAGE_SUCCESS, 4999, f), result.getFeedbackToUser());
+        assertEquals(5000, persons.size());
+        for (int i = 0; i < 4999; i++) {
+            assertEquals(new Name("Person " + i), persons.get(i + 1).getName());
+        }
+        Files.deleteIfExists(f);
+    }
+
+    @Test
+    public void execute_quotedCellSpanningLines_importedAsOneRow() throws Exception {
+        Path f = TEST_DIR.resolve("multiline_contacts.csv");
+        Files.writeString(f, "name,phone,email,address,tags,role,cadence,interactions,notes\n"
+                + "Lee Ada,81234567,ada@example.com,\"123 Tech Park, #01-02\",,Investor,,,\"met at\nthe fair\"\n"
+                + "Bob Tan,91234567,bob@example.com,5 Main St,,Lead,,,\n");
+
+        new ImportContactListCommand(f).execute(model);
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(2, persons.size());
+        assertEquals(new Name("Lee Ada"), persons.get(0).getName());
+        assertEquals(new Address("123 Tech Park, #01-02"), persons.get(0).getAddress());
+        assertEquals(new Name("Bob Tan"), persons.get(1).getName());
+        Files.deleteIfExists(f);
+    }
+
+    @Test
+    public void execute_unterminatedQuote_throwsCommandExceptionWithStartLine() throws Exception {
+        Path f = TEST_DIR.resolve("unterminated_contacts.csv");
+        Files.writeString(f, "name,phone,email,address,tags,role,cadence,interactions\n"
+                + "Lee Ada,81234567,ada@example.com,123 Tech Park,,Investor,,\n"
+                + "Bob Tan,91234567,bob@example.com,\"5 Main St,,Lead,,\n"
+                + "Cy Lim,81112222,cy@example.com,7 Side Rd,,Lead,,\n");
+
+        String expectedMessage = String.format(ImportContactListCommand.MESSAGE_INVALID_FILE, f,
+                String.format(CsvTokenizer.MESSAGE_UNTERMINATED_QUOTE, 3));
+        ImportContactListCommand command = new ImportContactListCommand(f);
+        CommandException thrown = assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(expectedMessage, thrown.getMessage());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        Files.deleteIfExists(f);
+    }
 }
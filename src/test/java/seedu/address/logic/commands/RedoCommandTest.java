@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RedoCommand}.
+ */
+public class RedoCommandTest {
+
+    private Model model;
+    private final Person alice = new PersonBuilder().withName("alice").build();
+    private final Person bob = new PersonBuilder().withName("bob").build();
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        model.saveState();
+        model.addPerson(alice);
+        assertThrows(CommandException.class, () -> new RedoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_afterUndo_success() throws Exception {
+        model.saveState();
+        model.addPerson(alice);
+        new UndoCommand().execute(model);
+        assertFalse(model.hasPerson(alice));
+
+        CommandResult result = new RedoCommand().execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(alice));
+    }
+
+    @Test
+    public void execute_multipleRedo_success() throws Exception {
+        model.saveState();
+        model.addPerson(alice);
+        model.saveState();
+        model.addPerson(bob);
+
+        new UndoCommand().execute(model);
+        new UndoCommand().execute(model);
+        new RedoCommand().execute(model);
+        assertTrue(model.hasPerson(alice));
+        assertFalse(model.hasPerson(bob));
+
+        new RedoCommand().execute(model);
+        assertTrue(model.hasPerson(bob));
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_throwsCommandException() throws Exception {
+        model.saveState();
+        model.addPerson(alice);
+        new UndoCommand().execute(model);
+
+        model.saveState();
+        model.addPerson(bob);
+
+        assertThrows(CommandException.class, () -> new RedoCommand().execute(model));
+    }
+}
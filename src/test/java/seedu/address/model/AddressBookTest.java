@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -83,6 +84,29 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.removePerson(ALICE);
+        assertEquals(getTypicalAddressBook().getPersonList(), snapshot.getPersonList());
+    }
+
+    @Test
+    public void withPersistentStore_behavesLikeArrayBackedAddressBook() {
+        AddressBook persistentAddressBook = AddressBook.withPersistentStore();
+        persistentAddressBook.resetData(getTypicalAddressBook());
+        ReadOnlyAddressBook snapshot = persistentAddressBook.snapshot();
+        persistentAddressBook.removePerson(ALICE);
+        persistentAddressBook.addPerson(BOB);
+
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.removePerson(ALICE);
+        expectedAddressBook.addPerson(BOB);
+        assertEquals(expectedAddressBook, persistentAddressBook);
+        assertEquals(getTypicalAddressBook().getPersonList(), snapshot.getPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -103,6 +127,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationVersion() {
+            return 0;
+        }
     }
 
 }
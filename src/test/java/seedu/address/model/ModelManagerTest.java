@@ -7,16 +7,23 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +95,184 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void loading_personsAddedThenFinished_holdsLoadedAddressBook() {
+        ModelManager loading = ModelManager.loading(new UserPrefs());
+        assertTrue(loading.isLoading());
+        assertFalse(modelManager.isLoading());
+
+        loading.addLoadedPersons(List.of(ALICE, BENSON));
+        assertEquals(List.of(ALICE, BENSON), loading.getFilteredPersonList());
+
+        AddressBook loaded = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        loading.finishLoading(loaded);
+        assertFalse(loading.isLoading());
+        assertEquals(loaded, new AddressBook(loading.getAddressBook()));
+        assertThrows(IllegalStateException.class, () -> loading.addLoadedPersons(List.of()));
+    }
+
+    @Test
+    public void finishLoading_remainingPersons_appendedToPersonsAdded() {
+        ModelManager loading = ModelManager.loading(new UserPrefs());
+        loading.addLoadedPersons(List.of(ALICE));
+        loading.addLoadedPersons(List.of(ALICE, BENSON)); // already added persons are skipped
+
+        loading.finishLoading(List.of(CARL));
+        assertFalse(loading.isLoading());
+        assertEquals(List.of(ALICE, BENSON, CARL), loading.getFilteredPersonList());
+        assertThrows(IllegalStateException.class, () -> loading.finishLoading(List.of()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void constructor_persistentPersonListEnabled_sameContents() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPersistentPersonListEnabled(true);
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+        modelManager.saveState();
+        modelManager.deletePerson(BENSON);
+        assertTrue(modelManager.undoState());
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void addPersons_existingAndNewPersons_addsNewAsOneUndoableChange() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        List<Person> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.addAll(change.getAddedSubList());
+            }
+        });
+        modelManager.saveState();
+
+        assertEquals(List.of(BENSON, CARL), modelManager.addPersons(List.of(ALICE, BENSON, CARL, BENSON)));
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+        assertEquals(List.of(BENSON, CARL), changes);
+
+        assertTrue(modelManager.undoState());
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.redoState());
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void undoState_afterDelete_restoresOriginalOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.saveState();
+        modelManager.deletePerson(BENSON);
+        assertTrue(modelManager.undoState());
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undoState_mixedChangesInOneCheckpoint_revertsAll() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99998888").build();
+        modelManager.saveState();
+        modelManager.deletePerson(ALICE);
+        modelManager.setPerson(CARL, editedCarl);
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(modelManager.undoState());
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+
+        assertTrue(modelManager.redoState());
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undoState_checkpointWithoutChanges_undoesEarlierChange() {
+        modelManager.saveState();
+        modelManager.addPerson(ALICE);
+        modelManager.saveState(); // e.g. a list command that changes nothing
+        assertTrue(modelManager.undoState());
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.undoState());
+    }
+
+    @Test
+    public void saveState_beyondMaxUndoSteps_evictsOldestChanges() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxUndoSteps(2);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+        for (Person person : Arrays.asList(ALICE, BENSON, CARL)) {
+            modelManager.saveState();
+            modelManager.addPerson(person);
+        }
+        assertEquals(2, modelManager.getUndoStepCount());
+
+        assertTrue(modelManager.undoState());
+        assertTrue(modelManager.undoState());
+        assertFalse(modelManager.undoState());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void saveState_overUndoMemoryLimit_keepsLatestChange() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxUndoMemoryBytes(0);
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+        modelManager.saveState();
+        modelManager.deletePerson(ALICE);
+        modelManager.saveState();
+        modelManager.deletePerson(BENSON);
+        assertEquals(1, modelManager.getUndoStepCount());
+
+        assertTrue(modelManager.undoState());
+        assertFalse(modelManager.undoState());
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getUndoMemoryEstimate_tracksRecordedAndDiscardedChanges() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertEquals(0, modelManager.getUndoMemoryEstimate());
+
+        modelManager.saveState();
+        modelManager.deletePerson(ALICE);
+        long afterDelete = modelManager.getUndoMemoryEstimate();
+        assertTrue(afterDelete > 0);
+
+        // undone changes stay in memory for redo until a new change discards them
+        assertTrue(modelManager.undoState());
+        assertEquals(afterDelete, modelManager.getUndoMemoryEstimate());
+        modelManager.saveState();
+        modelManager.addPerson(new PersonBuilder().withName("Zed").build());
+        assertTrue(modelManager.getUndoMemoryEstimate() < afterDelete);
+    }
+
+    @Test
+    public void finishLoading_deferredAddressBook_personsStayDeferred() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL);
+        List<Integer> loaded = new ArrayList<>();
+        AddressBook deferred = AddressBook.deferred(persons.stream().map(Person::getName).toList(), i -> {
+            loaded.add(i);
+            return persons.get(i);
+        });
+        modelManager = ModelManager.loading(new UserPrefs());
+        List<Integer> changeSizes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changeSizes.add(change.getAddedSize());
+            }
+        });
+
+        modelManager.finishLoading(deferred);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(3), changeSizes);
+        assertEquals(3, modelManager.getFilteredPersonList().size());
+        assertEquals(List.of(), loaded);
+
+        assertEquals(BENSON, modelManager.getFilteredPersonList().get(1));
+        assertEquals(List.of(1), loaded);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +22,15 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void withInvalidPrefsReset_validPrefs_sameAsOriginal() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookShardCount(UserPrefs.MAX_ADDRESS_BOOK_SHARD_COUNT);
+        userPrefs.setMaxUndoSteps(1);
+        List<String> invalidPrefs = new ArrayList<>();
+
+        assertEquals(userPrefs, UserPrefs.withInvalidPrefsReset(userPrefs, invalidPrefs));
+        assertEquals(List.of(), invalidPrefs);
+    }
+
 }
@@ -0,0 +1,131 @@
+package seedu.address.model.interaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class InteractionHistoryTest {
+
+    private static final Interaction CALL = new Interaction(InteractionType.CALL, "Intro call",
+            Instant.parse("2025-01-01T10:00:00Z"));
+    private static final Interaction EMAIL = new Interaction(InteractionType.EMAIL, "Sent deck",
+            Instant.parse("2025-01-02T10:00:00Z"));
+    private static final Interaction NOTE = new Interaction(InteractionType.NOTE, "Follow up next week",
+            Instant.parse("2025-01-03T10:00:00Z"));
+
+    @Test
+    public void of_existingHistory_returnsSameInstance() {
+        InteractionHistory history = InteractionHistory.of(List.of(CALL));
+        assertSame(history, InteractionHistory.of(history));
+    }
+
+    @Test
+    public void append_doesNotModifyOriginal() {
+        InteractionHistory original = InteractionHistory.of(List.of(CALL));
+        InteractionHistory appended = original.append(EMAIL);
+        assertEquals(List.of(CALL), original);
+        assertEquals(List.of(CALL, EMAIL), appended);
+    }
+
+    @Test
+    public void append_toOlderVersion_doesNotAffectNewerVersion() {
+        InteractionHistory base = InteractionHistory.empty().append(CALL);
+        InteractionHistory newer = base.append(EMAIL);
+        InteractionHistory branch = base.append(NOTE);
+        assertEquals(List.of(CALL, EMAIL), newer);
+        assertEquals(List.of(CALL, NOTE), branch);
+    }
+
+    @Test
+    public void append_manyInteractions_matchesArrayList() {
+        InteractionHistory history = InteractionHistory.empty();
+        List<Interaction> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Interaction interaction = new Interaction(InteractionType.NOTE, "note " + i, Instant.ofEpochSecond(i));
+            history = history.append(interaction);
+            expected.add(interaction);
+        }
+        assertEquals(expected, history);
+        assertEquals(expected.hashCode(), history.hashCode());
+        assertEquals(expected.get(49), history.getLastOrNull());
+    }
+
+    @Test
+    public void equals_sameElementsDifferentBuffers_returnsTrue() {
+        InteractionHistory appended = InteractionHistory.empty().append(CALL).append(EMAIL);
+        InteractionHistory copied = InteractionHistory.of(new ArrayList<>(List.of(CALL, EMAIL)));
+        assertEquals(appended, copied);
+        assertEquals(appended.hashCode(), copied.hashCode());
+    }
+
+    @Test
+    public void deferred_loadsOnlyWhenElementsNeeded() {
+        AtomicInteger loads = new AtomicInteger();
+        InteractionHistory history = InteractionHistory.deferred(3, NOTE, () -> {
+            loads.incrementAndGet();
+            return new Interaction[] {CALL, EMAIL, NOTE};
+        });
+
+        assertTrue(history.isDeferred());
+        assertEquals(3, history.size());
+        assertSame(NOTE, history.getLastOrNull());
+        assertEquals(0, loads.get());
+
+        assertEquals(List.of(CALL, EMAIL, NOTE), new ArrayList<>(history));
+        assertEquals(1, loads.get());
+        assertEquals(EMAIL, history.get(1));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void deferred_equalsAndHashCodeMatchLoadedHistory() {
+        InteractionHistory deferred = InteractionHistory.deferred(2, EMAIL, () -> new Interaction[] {CALL, EMAIL});
+        InteractionHistory loaded = InteractionHistory.of(List.of(CALL, EMAIL));
+        assertEquals(loaded, deferred);
+        assertEquals(deferred, loaded);
+        assertEquals(loaded.hashCode(), deferred.hashCode());
+        assertEquals(List.of(CALL, EMAIL, NOTE), deferred.append(NOTE));
+        assertFalse(deferred.append(NOTE).isDeferred());
+    }
+
+    @Test
+    public void append_deferredHistory_loadsOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        InteractionHistory history = InteractionHistory.deferred(2, EMAIL, () -> {
+            loads.incrementAndGet();
+            return new Interaction[] {CALL, EMAIL};
+        });
+
+        InteractionHistory appended = history.append(NOTE);
+        assertEquals(1, loads.get());
+        assertEquals(InteractionHistory.of(List.of(CALL, EMAIL, NOTE)).hashCode(), appended.hashCode());
+    }
+
+    @Test
+    public void deferred_loaderReturnsWrongSize_throwsIllegalStateException() {
+        InteractionHistory history = InteractionHistory.deferred(3, NOTE, () -> new Interaction[] {NOTE});
+        assertThrows(IllegalStateException.class, () -> history.get(0));
+    }
+
+    @Test
+    public void getLastOrNull_emptyHistory_returnsNull() {
+        assertNull(InteractionHistory.empty().getLastOrNull());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        InteractionHistory history = InteractionHistory.of(List.of(CALL));
+        assertThrows(UnsupportedOperationException.class, () -> history.add(EMAIL));
+        assertThrows(UnsupportedOperationException.class, () -> history.remove(0));
+    }
+}
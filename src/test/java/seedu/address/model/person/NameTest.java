@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -57,4 +60,27 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        Name name = new Name("Valid Name");
+        Name differentCase = new Name("VALID name");
+        assertTrue(name.equals(differentCase));
+        assertEquals(name.hashCode(), differentCase.hashCode());
+    }
+
+    @Test
+    public void hashCode_turkishDefaultLocale_sameHashCodeForEqualNames() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // the Turkish locale lowercases "I" to a dotless i, unlike equalsIgnoreCase
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            Name name = new Name("IRIS Ivy");
+            Name differentCase = new Name("iris ivy");
+            assertTrue(name.equals(differentCase));
+            assertEquals(name.hashCode(), differentCase.hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -2,15 +2,19 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -47,6 +51,21 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedByDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +77,44 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrderAndIndexed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(List.of(BOB, CARL));
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void addAll_duplicatePerson_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAllNew_existingAndRepeatedPersons_addsOnlyFirstOfEachNewPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> added = uniquePersonList.addAllNew(List.of(BOB, ALICE, editedBob, CARL));
+        assertEquals(List.of(BOB, CARL), added);
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void removeLast_someLastPersons_removedAndUnindexed() {
+        uniquePersonList.addAll(List.of(ALICE, BOB, CARL));
+        uniquePersonList.removeLast(2);
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(CARL));
+        uniquePersonList.add(BOB);
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.removeLast(3));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -127,6 +184,29 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOthers_laterPersonsStillReachable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, ALICE);
+        uniquePersonList.remove(BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void sort_thenSetPerson_replacesCorrectPerson() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sort(Comparator.comparing(person -> person.getName().fullName));
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -139,6 +219,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -162,14 +244,67 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getVersion_changesOnEveryModificationOnly() {
+        long initial = uniquePersonList.getVersion();
+        assertNotEquals(initial, new UniquePersonList().getVersion());
+
+        uniquePersonList.add(ALICE);
+        long afterAdd = uniquePersonList.getVersion();
+        assertTrue(afterAdd > initial);
+
+        uniquePersonList.contains(ALICE);
+        uniquePersonList.snapshot();
+        assertEquals(afterAdd, uniquePersonList.getVersion());
+
+        uniquePersonList.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        long afterSet = uniquePersonList.getVersion();
+        assertTrue(afterSet > afterAdd);
+
+        uniquePersonList.setPersons(Collections.emptyList());
+        assertTrue(uniquePersonList.getVersion() > afterSet);
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void deferred_personsLoadedOnAccess() {
+        List<Person> persons = List.of(ALICE, BOB);
+        List<Integer> loaded = new ArrayList<>();
+        UniquePersonList deferredList = UniquePersonList.deferred(List.of(ALICE.getName(), BOB.getName()), i -> {
+            loaded.add(i);
+            return persons.get(i);
+        });
+
+        assertTrue(deferredList.contains(BOB));
+        assertEquals(List.of(), loaded);
+        assertEquals(BOB, deferredList.asUnmodifiableObservableList().get(1));
+        assertEquals(List.of(1), loaded);
+    }
+
+    @Test
+    public void deferred_duplicateNames_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () ->
+                UniquePersonList.deferred(List.of(ALICE.getName(), ALICE.getName()), i -> ALICE));
+    }
 }
@@ -0,0 +1,97 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvTokenizerTest {
+
+    private static final String TEXT = "name,address,tags\r\n"
+            + "\"Lee, Ada\",\"Blk 1\nUnit \"\"A\"\"\",vip\n"
+            + "\n"
+            + "Bob,,\r"
+            + "Cy,\"2 Main St\r\nLevel 3\",\"\"";
+
+    @Test
+    public void constructor_invalidDelimiter_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvTokenizer(new StringReader(""), '"', 1));
+        assertThrows(IllegalArgumentException.class, () -> new CsvTokenizer(new StringReader(""), '\n', 1));
+    }
+
+    @Test
+    public void split_quotedCells_quotesRemoved() {
+        assertEquals(List.of("Lee, Ada", "say \"hi\"", "", "x"),
+                CsvTokenizer.split("\"Lee, Ada\",\"say \"\"hi\"\"\",,x", ','));
+        assertEquals(List.of("a", "b;c", ""), CsvTokenizer.split("a;\"b;c\";", ';'));
+        assertEquals(List.of(""), CsvTokenizer.split("", ','));
+    }
+
+    @Test
+    public void readRecord_multiLineCells_recordsAndLineNumbers() throws Exception {
+        List<List<String>> expectedRecords = List.of(
+                List.of("name", "address", "tags"),
+                List.of("Lee, Ada", "Blk 1\nUnit \"A\"", "vip"),
+                List.of(""),
+                List.of("Bob", "", ""),
+                List.of("Cy", "2 Main St\r\nLevel 3", ""));
+        List<Integer> expectedLineNumbers = List.of(5, 6, 8, 9, 10);
+
+        // a one-char buffer splits every record, cell and line break across reads
+        for (int bufferSize : new int[] {1, 2, 7, 4096}) {
+            CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(TEXT), ',', 5, bufferSize);
+            List<List<String>> records = new ArrayList<>();
+            List<Integer> lineNumbers = new ArrayList<>();
+            List<String> cells = new ArrayList<>();
+            while (tokenizer.readRecord((column, chars, length) -> {
+                assertEquals(cells.size(), column);
+                cells.add(new String(chars, 0, length));
+            })) {
+                records.add(new ArrayList<>(cells));
+                lineNumbers.add(tokenizer.getRecordLineNumber());
+                cells.clear();
+            }
+            assertEquals(expectedRecords, records);
+            assertEquals(expectedLineNumbers, lineNumbers);
+            assertFalse(tokenizer.readRecord((column, chars, length) -> { }));
+        }
+    }
+
+    @Test
+    public void readRecord_trailingLineBreak_noEmptyRecord() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,b\r\n"), ',', 1);
+        List<String> cells = new ArrayList<>();
+        assertEquals(true, tokenizer.readRecord((column, chars, length) -> cells.add(new String(chars, 0, length))));
+        assertEquals(List.of("a", "b"), cells);
+        assertFalse(tokenizer.readRecord((column, chars, length) -> cells.add(new String(chars, 0, length))));
+    }
+
+    @Test
+    public void readRecord_longCell_bufferGrows() throws IOException {
+        String longCell = "x".repeat(10_000);
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("\"" + longCell + "\",y\n"), ',', 1, 16);
+        List<String> cells = new ArrayList<>();
+        tokenizer.readRecord((column, chars, length) -> cells.add(new String(chars, 0, length)));
+        assertEquals(List.of(longCell, "y"), cells);
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_throwsWithStartLine() throws IOException {
+        String text = "a,b\nc,\"d\ne,f\ng,h\n";
+        for (int bufferSize : new int[] {1, 4096}) {
+            CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(text), ',', 1, bufferSize);
+            assertEquals(true, tokenizer.readRecord((column, chars, length) -> { }));
+            String expectedMessage = String.format(CsvTokenizer.MESSAGE_UNTERMINATED_QUOTE, 2);
+            assertThrows(IllegalArgumentException.class, expectedMessage, () ->
+                    tokenizer.readRecord((column, chars, length) -> { }));
+        }
+        assertThrows(IllegalArgumentException.class, String.format(CsvTokenizer.MESSAGE_UNTERMINATED_QUOTE, 1), () ->
+                CsvTokenizer.split("a,\"b", ','));
+    }
+}
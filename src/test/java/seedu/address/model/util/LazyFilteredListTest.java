@@ -0,0 +1,199 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class LazyFilteredListTest {
+
+    @Test
+    public void noPredicate_sourceChanges_elementsNotLoaded() {
+        List<Integer> loaded = new ArrayList<>();
+        LazyObservableList<String> source = new LazyObservableList<>();
+        LazyFilteredList<String> view = new LazyFilteredList<>(source);
+        List<String> changes = new ArrayList<>();
+        view.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + "/" + change.getRemovedSize());
+            }
+        });
+
+        source.setAll(LazyObservableList.deferred(5, i -> {
+            loaded.add(i);
+            return "item" + i;
+        }));
+        source.remove(3, 5);
+        assertEquals(List.of("0-5/0", "3-3/2"), changes);
+        assertEquals(List.of(), loaded);
+
+        assertEquals(3, view.size());
+        assertEquals("item1", view.get(1));
+        assertEquals(List.of(1), loaded);
+    }
+
+    @Test
+    public void predicate_addRemoveAndReplace_matchFilteredList() {
+        LazyObservableList<Integer> source = new LazyObservableList<>();
+        source.setAll(LazyObservableList.deferred(10, i -> i));
+        FilteredList<Integer> expected = new FilteredList<>(source, element -> element % 2 == 0);
+        LazyFilteredList<Integer> actual = new LazyFilteredList<>(source);
+        actual.setPredicate(element -> element % 2 == 0);
+        List<Integer> replayed = new ArrayList<>(actual);
+        actual.addListener((ListChangeListener<Integer>) change -> replay(change, replayed));
+
+        source.add(3, 20); // shown, between shown elements
+        source.add(0, 21); // hidden, shifts every shown element
+        source.remove(Integer.valueOf(4)); // shown
+        source.remove(Integer.valueOf(5)); // hidden
+        source.set(1, 23); // shown replaced by hidden
+        source.set(2, 24); // hidden replaced by shown
+        source.set(0, 26); // hidden replaced by shown at the front
+        source.remove(2, 6); // range of shown and hidden
+        source.setAll(List.of(1, 2, 3, 4));
+
+        assertEquals(List.of(2, 4), actual);
+        assertEquals(expected, actual);
+        assertEquals(expected, replayed);
+    }
+
+    @Test
+    public void predicate_sourceSorted_firesPermutation() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(5, 8, 1, 6, 3, 4);
+        LazyFilteredList<Integer> view = new LazyFilteredList<>(source);
+        view.setPredicate(element -> element % 2 == 0);
+        List<Integer> replayed = new ArrayList<>(view);
+        List<Boolean> permutations = new ArrayList<>();
+        view.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                permutations.add(change.wasPermutated());
+            }
+            change.reset();
+            replay(change, replayed);
+        });
+
+        FXCollections.sort(source);
+        assertEquals(List.of(4, 6, 8), view);
+        assertEquals(List.of(4, 6, 8), replayed);
+        assertEquals(List.of(true), permutations);
+        assertEquals(List.of(2, 4, 5), List.of(view.getSourceIndex(0), view.getSourceIndex(1), view.getSourceIndex(2)));
+    }
+
+    @Test
+    public void predicate_elementsUpdated_shownOrHidden() {
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(
+                property -> new Observable[] {property});
+        for (int i = 0; i < 4; i++) {
+            source.add(new SimpleIntegerProperty(i));
+        }
+        FilteredList<IntegerProperty> expected = new FilteredList<>(source, property -> property.get() % 2 == 0);
+        LazyFilteredList<IntegerProperty> actual = new LazyFilteredList<>(source);
+        actual.setPredicate(property -> property.get() % 2 == 0);
+        List<String> changes = new ArrayList<>();
+        actual.addListener((ListChangeListener<IntegerProperty>) change -> {
+            while (change.next()) {
+                changes.add((change.wasUpdated() ? "updated " : change.wasAdded() ? "added " : "removed ")
+                        + change.getFrom());
+            }
+        });
+
+        source.get(2).set(4); // still shown
+        source.get(0).set(1); // hidden
+        source.get(3).set(6); // shown
+
+        assertEquals(List.of("updated 1", "removed 0", "added 1"), changes);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void randomChanges_matchFilteredList() {
+        assertRandomChangesMatchFilteredList(FXCollections.observableArrayList());
+    }
+
+    @Test
+    public void randomChanges_lazySource_matchFilteredList() {
+        assertRandomChangesMatchFilteredList(new LazyObservableList<>());
+    }
+
+    /**
+     * Makes random changes to {@code source} and to the predicate, checking after each that a {@code LazyFilteredList}
+     * of {@code source} and the changes it fires agree with a {@code FilteredList} of it.
+     */
+    private static void assertRandomChangesMatchFilteredList(ObservableList<Integer> source) {
+        Random random = new Random(2103);
+        FilteredList<Integer> expected = new FilteredList<>(source);
+        LazyFilteredList<Integer> actual = new LazyFilteredList<>(source);
+        List<Integer> replayed = new ArrayList<>();
+        actual.addListener((ListChangeListener<Integer>) change -> replay(change, replayed));
+
+        for (int i = 0; i < 2000; i++) {
+            switch (random.nextInt(8)) {
+            case 0:
+                int modulus = 2 + random.nextInt(3);
+                expected.setPredicate(element -> element % modulus == 0);
+                actual.setPredicate(element -> element % modulus == 0);
+                break;
+            case 1:
+                expected.setPredicate(null);
+                actual.setPredicate(null);
+                break;
+            case 2:
+                FXCollections.sort(source,
+                        random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+                break;
+            case 3:
+                if (!source.isEmpty()) {
+                    int from = random.nextInt(source.size());
+                    source.remove(from, from + random.nextInt(source.size() - from + 1));
+                }
+                break;
+            case 4:
+                if (!source.isEmpty()) {
+                    source.set(random.nextInt(source.size()), random.nextInt(100));
+                }
+                break;
+            case 5:
+                source.setAll(random.ints(random.nextInt(20), 0, 100).boxed().toArray(Integer[]::new));
+                break;
+            default:
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            }
+            assertEquals(expected, actual);
+            assertEquals(expected, replayed);
+        }
+    }
+
+    /**
+     * Applies {@code change} to {@code list}, which held the contents of the changed list before the change.
+     */
+    private static void replay(ListChangeListener.Change<? extends Integer> change, List<Integer> list) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<Integer> permuted = new ArrayList<>(list.subList(from, change.getTo()));
+                for (int i = from; i < change.getTo(); i++) {
+                    list.set(change.getPermutation(i), permuted.get(i - from));
+                }
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    list.set(i, change.getList().get(i));
+                }
+            } else {
+                list.subList(from, from + change.getRemovedSize()).clear();
+                list.addAll(from, change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class LazyObservableListTest {
+
+    @Test
+    public void deferred_loadsOnlyAccessedElements() {
+        List<Integer> loaded = new ArrayList<>();
+        LazyObservableList<String> list = LazyObservableList.deferred(5, i -> {
+            loaded.add(i);
+            return "item" + i;
+        });
+        assertEquals(5, list.size());
+        assertEquals(5, list.countDeferred());
+
+        assertEquals("item3", list.get(3));
+        assertEquals("item3", list.get(3));
+        assertEquals(List.of(3), loaded);
+        assertEquals(4, list.countDeferred());
+    }
+
+    @Test
+    public void copies_shareUnloadedElements() {
+        List<Integer> loaded = new ArrayList<>();
+        LazyObservableList<String> original = LazyObservableList.deferred(3, i -> {
+            loaded.add(i);
+            return "item" + i;
+        });
+        LazyObservableList<String> copy = new LazyObservableList<>();
+        copy.setAll(original);
+        List<String> snapshot = original.snapshot();
+        assertEquals(List.of(), loaded);
+
+        assertEquals("item1", snapshot.get(1));
+        assertEquals("item1", copy.get(1));
+        assertEquals("item1", original.get(1));
+        assertEquals(List.of(1), loaded);
+
+        original.remove(0);
+        assertEquals(List.of("item0", "item1", "item2"), snapshot);
+        assertEquals(List.of("item0", "item1", "item2"), copy);
+        assertEquals(List.of("item1", "item2"), original);
+    }
+
+    @Test
+    public void getDeferredIndex_onlyUnreplacedElementsOfLoader() {
+        IntFunction<String> loader = i -> "item" + i;
+        LazyObservableList<String> list = LazyObservableList.deferred(3, loader);
+        list.remove(0);
+        list.set(1, "new");
+        List<String> snapshot = list.snapshot();
+        list.get(0);
+
+        assertEquals(1, LazyObservableList.getDeferredIndex(snapshot, 0, loader));
+        assertEquals(-1, LazyObservableList.getDeferredIndex(snapshot, 1, loader));
+        assertEquals(-1, LazyObservableList.getDeferredIndex(list, 0, loader));
+        assertEquals(-1, LazyObservableList.getDeferredIndex(snapshot, 0, i -> "other" + i));
+        assertEquals(-1, LazyObservableList.getDeferredIndex(List.of("item0"), 0, loader));
+    }
+
+    @Test
+    public void updates_matchArrayListAndNotifyListeners() {
+        LazyObservableList<String> list = LazyObservableList.deferred(3, i -> "item" + i);
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+
+        list.add(1, "new");
+        list.set(0, "first");
+        list.remove(3);
+        assertEquals(List.of("first", "new", "item1"), list);
+        assertEquals(List.of("[]->[new]", "[item0]->[first]", "[item2]->[]"), changes);
+    }
+
+    @Test
+    public void removeRange_notifiesOneChange() {
+        LazyObservableList<String> list = LazyObservableList.deferred(5, i -> "item" + i);
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved());
+            }
+        });
+
+        list.remove(2, 5);
+        assertEquals(List.of("item0", "item1"), list);
+        assertEquals(List.of("2:[item2, item3, item4]"), changes);
+    }
+
+    @Test
+    public void setAll_replacedElementsNotLoaded() {
+        List<Integer> loaded = new ArrayList<>();
+        LazyObservableList<String> list = LazyObservableList.deferred(3, i -> {
+            loaded.add(i);
+            return "item" + i;
+        });
+        List<List<? extends String>> removed = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.add(change.getRemoved());
+            }
+        });
+
+        list.setAll(List.of("new"));
+        assertEquals(List.of("new"), list);
+        assertEquals(List.of(), loaded);
+
+        // a listener that looks at a removed element loads it
+        assertEquals("item2", removed.get(0).get(2));
+        assertEquals(List.of(2), loaded);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_collection_preservesOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        assertEquals(elements, PersistentList.of(elements).asList());
+    }
+
+    @Test
+    public void updates_doNotAffectEarlierVersions() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> inserted = original.insert(1, "x");
+        PersistentList<String> removed = original.remove(0);
+        PersistentList<String> replaced = original.set(2, "z");
+
+        assertEquals(List.of("a", "b", "c"), original.asList());
+        assertEquals(List.of("a", "x", "b", "c"), inserted.asList());
+        assertEquals(List.of("b", "c"), removed.asList());
+        assertEquals(List.of("a", "b", "z"), replaced.asList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.insert(index, i);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            }
+        }
+        assertEquals(expected, actual.asList());
+        assertEquals(expected.size(), actual.size());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(2, "b"));
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        List<String> view = PersistentList.of(List.of("a")).asList();
+        assertThrows(UnsupportedOperationException.class, () -> view.add("b"));
+    }
+}
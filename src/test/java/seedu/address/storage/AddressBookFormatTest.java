@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+
+public class AddressBookFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of_fileExtension_matchingFormat() {
+        assertEquals(AddressBookFormat.BINARY, AddressBookFormat.of(Paths.get("data", "addressbook.bin")));
+        assertEquals(AddressBookFormat.JSON, AddressBookFormat.of(Paths.get("data", "addressbook.json")));
+        assertEquals(AddressBookFormat.JSON, AddressBookFormat.of(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void createStorage_eachFormat_matchingStorage() {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertTrue(AddressBookFormat.BINARY.createStorage(filePath) instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookFormat.JSON.createStorage(filePath) instanceof JournaledAddressBookStorage);
+        assertEquals(filePath, AddressBookFormat.JSON.createStorage(filePath).getAddressBookFilePath());
+    }
+
+    @Test
+    public void createStorage_splitFileAndSplittingTurnedOff_readsSegments() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath, 3).saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(filePath));
+
+        AddressBookStorage storage = AddressBookFormat.JSON.createStorage(filePath, new UserPrefs());
+        assertTrue(storage instanceof ShardedAddressBookStorage);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_splitSource_joinedTarget() throws Exception {
+        Path split = testFolder.resolve("addressbook.json");
+        Path joined = testFolder.resolve("joined.json");
+        new ShardedAddressBookStorage(split, 3).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookFormat.convert(split, joined);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(joined).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path json = testFolder.resolve("addressbook.json");
+        Path binary = testFolder.resolve("addressbook.bin");
+        Path jsonAgain = testFolder.resolve("copy.json");
+        new JsonAddressBookStorage(json).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookFormat.convert(json, binary);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binary).readAddressBook().get()));
+
+        AddressBookFormat.convert(binary, jsonAgain);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonAgain).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                AddressBookFormat.convert(testFolder.resolve("missing.json"), testFolder.resolve("addressbook.bin")));
+    }
+}
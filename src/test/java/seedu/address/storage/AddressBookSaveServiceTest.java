@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaveServiceTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @Test
+    public void requestSave_burstOfRequests_writesLatestOnce() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaveService service = new AddressBookSaveService(storage::save, LONG_DELAY_MILLIS);
+        ReadOnlyAddressBook latest = getTypicalAddressBook();
+        service.requestSave(new AddressBook());
+        service.requestSave(new AddressBook());
+        service.requestSave(latest);
+
+        service.flush();
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+
+        // nothing left to write
+        service.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void requestSave_afterDelay_writesWithoutFlush() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaveService service = new AddressBookSaveService(storage::save, 0);
+        List<SaveStatus.State> states = new ArrayList<>();
+        service.setListener(status -> states.add(status.getState()));
+        service.requestSave(new AddressBook());
+
+        for (int i = 0; i < 100 && storage.saved.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        service.flush();
+        assertEquals(1, storage.saved.size());
+        assertEquals(List.of(SaveStatus.State.PENDING, SaveStatus.State.SAVED), states);
+    }
+
+    @Test
+    public void flush_writeFails_reportsAndRetriesLater() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.failure = new IOException("disk full");
+        AddressBookSaveService service = new AddressBookSaveService(storage::save, LONG_DELAY_MILLIS);
+        List<SaveStatus> statuses = new ArrayList<>();
+        service.setListener(statuses::add);
+        ReadOnlyAddressBook addressBook = getTypicalAddressBook();
+        service.requestSave(addressBook);
+
+        assertThrows(IOException.class, service::flush);
+        assertEquals(SaveStatus.State.FAILED, statuses.get(statuses.size() - 1).getState());
+        assertSame(storage.failure, statuses.get(statuses.size() - 1).getError());
+
+        storage.failure = null;
+        service.flush();
+        assertEquals(List.of(addressBook), storage.saved);
+        assertEquals(SaveStatus.State.SAVED, statuses.get(statuses.size() - 1).getState());
+    }
+
+    @Test
+    public void requestSave_writeThrowsRuntimeException_reportsAndKeepsChanges() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.runtimeFailure = new IllegalStateException("data file changed");
+        AddressBookSaveService service = new AddressBookSaveService(storage::save, 0);
+        List<SaveStatus> statuses = new ArrayList<>();
+        service.setListener(status -> {
+            synchronized (statuses) {
+                statuses.add(status);
+            }
+        });
+        ReadOnlyAddressBook addressBook = getTypicalAddressBook();
+        service.requestSave(addressBook);
+
+        for (int i = 0; i < 100 && statuses.size() < 2; i++) {
+            Thread.sleep(10);
+        }
+        synchronized (statuses) {
+            assertEquals(SaveStatus.State.FAILED, statuses.get(statuses.size() - 1).getState());
+            assertSame(storage.runtimeFailure, statuses.get(statuses.size() - 1).getError().getCause());
+        }
+
+        storage.runtimeFailure = null;
+        service.flush();
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    /**
+     * An address book writer that records what it is asked to save.
+     */
+    private static class AddressBookStorageStub {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private volatile IOException failure;
+        private volatile RuntimeException runtimeFailure;
+
+        private void save(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            if (runtimeFailure != null) {
+                throw runtimeFailure;
+            }
+            synchronized (saved) {
+                saved.add(addressBook);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.ui.CommandHistory;
+
+public class AppendOnlyCommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path legacyFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("commandhistory.log");
+        legacyFilePath = testFolder.resolve("commandhistory.json");
+    }
+
+    @Test
+    public void readCommandHistory_missingFiles_emptyResult() throws Exception {
+        assertFalse(new AppendOnlyCommandHistoryStorage(filePath, legacyFilePath).readCommandHistory().isPresent());
+    }
+
+    @Test
+    public void appendCommand_thenRead_commandsInOrder() throws Exception {
+        AppendOnlyCommandHistoryStorage storage = new AppendOnlyCommandHistoryStorage(filePath, legacyFilePath);
+        storage.appendCommand("list");
+        storage.appendCommand("add n/Amy a/Line 1\nLine 2 \\ end");
+
+        List<String> read = new AppendOnlyCommandHistoryStorage(filePath, legacyFilePath).readCommandHistory().get()
+                .getHistory();
+        assertEquals(List.of("list", "add n/Amy a/Line 1\nLine 2 \\ end"), read);
+    }
+
+    @Test
+    public void readCommandHistory_legacyFile_movedIntoLog() throws Exception {
+        new JsonCommandHistoryStorage(legacyFilePath).saveCommandHistory(new CommandHistory(List.of("list", "exit")));
+
+        AppendOnlyCommandHistoryStorage storage = new AppendOnlyCommandHistoryStorage(filePath, legacyFilePath);
+        assertEquals(List.of("list", "exit"), storage.readCommandHistory().get().getHistory());
+        assertFalse(Files.exists(legacyFilePath));
+
+        storage.appendCommand("help");
+        assertEquals(List.of("list", "exit", "help"), storage.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void appendCommand_pastCompactionThreshold_keepsMostRecentCommands() throws Exception {
+        AppendOnlyCommandHistoryStorage storage = new AppendOnlyCommandHistoryStorage(filePath, legacyFilePath, 3, 40);
+        for (int i = 0; i < 10; i++) {
+            storage.appendCommand("find n/person" + i);
+        }
+        storage.awaitCompaction();
+
+        // the compaction started by this command covers every command before it
+        storage.appendCommand("list");
+        storage.awaitCompaction();
+
+        assertEquals(List.of("find n/person8", "find n/person9", "list"),
+                Files.readAllLines(filePath, StandardCharsets.UTF_8));
+        storage.appendCommand("exit");
+        assertEquals(List.of("find n/person9", "list", "exit"),
+                new AppendOnlyCommandHistoryStorage(filePath, legacyFilePath, 3, 40).readCommandHistory().get()
+                        .getHistory());
+    }
+
+    @Test
+    public void appendCommand_partlyWrittenLastLine_notJoinedWithCommand() throws Exception {
+        Files.writeString(filePath, "list\nfind n/Al", StandardCharsets.UTF_8);
+
+        AppendOnlyCommandHistoryStorage storage = new AppendOnlyCommandHistoryStorage(filePath, legacyFilePath);
+        assertEquals(List.of("list"), storage.readCommandHistory().get().getHistory());
+        storage.appendCommand("exit");
+        Files.writeString(filePath, "help\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(List.of("list", "find n/Al", "exit", "help"),
+                storage.readCommandHistory().get().getHistory());
+    }
+}
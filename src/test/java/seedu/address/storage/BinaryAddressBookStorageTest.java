@@ -0,0 +1,285 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interaction.Interaction;
+import seedu.address.model.interaction.InteractionType;
+import seedu.address.model.person.Cadence;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Person withHistory = new Person(BENSON, List.of(
+                new Interaction(InteractionType.CALL, "Quarterly check-in", Instant.parse("2025-10-15T09:05:30Z")),
+                new Interaction(InteractionType.NOTE, "Prefers 日本語", Instant.ofEpochSecond(1760000000, 123456789))));
+        original.setPerson(BENSON, withHistory);
+        Person withCadence = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getTags(), ALICE.getRole(), new Cadence(14));
+        original.setPerson(ALICE, withCadence);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(withCadence);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.bin.tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedValues_smallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+        assertTrue(Files.size(binaryPath) * 2 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newerFormatVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(content).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidTableValue_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        // the first table value is ALICE's address; overwrite its first character with a space
+        byte[] content = Files.readAllBytes(filePath);
+        content[4 * Integer.BYTES] = ' ';
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_lazy_sameAsEager() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(BENSON, new Person(BENSON, List.of(
+                new Interaction(InteractionType.MEETING, "Lunch", Instant.parse("2025-10-15T09:05:30Z")))));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook lazy = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        assertEquals(original, new AddressBook(lazy));
+        assertEquals(original, new ModelManager(lazy, new UserPrefs()).getAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_lazyWithInvalidLaterPerson_failsOnlyWhenAccessed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        original.addPerson(new PersonBuilder(BENSON).withPhone("98765432").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        String file = new String(content, StandardCharsets.ISO_8859_1);
+        content[file.indexOf("98765432")] = 'x';
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        ReadOnlyAddressBook lazy = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        Model model = new ModelManager(lazy, new UserPrefs());
+        assertEquals(2, model.getFilteredPersonList().size());
+        assertEquals(ALICE, model.getFilteredPersonList().get(0));
+        assertThrows(IllegalStateException.class, () -> model.getFilteredPersonList().get(1));
+    }
+
+    @Test
+    public void readAddressBook_lazyDuplicateNames_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Amy Bee").build());
+        original.addPerson(new PersonBuilder().withName("Amy Bef").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        String file = new String(content, StandardCharsets.ISO_8859_1);
+        content[file.indexOf("Amy Bef") + 6] = 'e';
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_lazyInteractions_sameAsEager() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(BENSON, new Person(BENSON, List.of(
+                new Interaction(InteractionType.CALL, "Intro", Instant.parse("2025-10-14T09:05:30Z")),
+                new Interaction(InteractionType.MEETING, "Lunch", Instant.parse("2025-10-15T09:05:30Z")))));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook lazy = new BinaryAddressBookStorage(filePath, false, true).readAddressBook().get();
+        assertTrue(lazy.getPersonList().stream().anyMatch(person -> person.getInteractions().isDeferred()));
+        assertEquals(original, new AddressBook(lazy));
+        assertEquals(original.getPersonList().stream().mapToInt(Person::hashCode).sum(),
+                lazy.getPersonList().stream().mapToInt(Person::hashCode).sum());
+    }
+
+    @Test
+    public void readAddressBook_staleMappedCopy_deleted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path staleCopy = testFolder.resolve("addressbook.bin.12345" + BinaryAddressBookStorage.MAPPED_COPY_SUFFIX);
+        Files.write(staleCopy, new byte[] {1, 2, 3});
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(staleCopy));
+    }
+
+    @Test
+    public void saveAddressBook_overFileReadLazily_lazyPersonsStillLoad() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(BENSON, new Person(BENSON, List.of(
+                new Interaction(InteractionType.CALL, "Intro", Instant.parse("2025-10-14T09:05:30Z")),
+                new Interaction(InteractionType.MEETING, "Lunch", Instant.parse("2025-10-15T09:05:30Z")))));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true, true);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook lazy = storage.readAddressBook().get();
+
+        AddressBook changed = new AddressBook();
+        changed.addPerson(ALICE);
+        storage.saveAddressBook(changed);
+        Files.delete(filePath);
+
+        assertEquals(original, new AddressBook(lazy));
+    }
+
+    @Test
+    public void readAddressBook_lazyInvalidEarlierInteraction_failsOnlyWhenHistoryLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Interaction latest = new Interaction(InteractionType.MEETING, "Lunch", Instant.parse("2025-10-15T09:05:30Z"));
+        AddressBook original = new AddressBook();
+        original.addPerson(new Person(ALICE, List.of(
+                new Interaction(InteractionType.CALL, "Intro", Instant.parse("2025-10-14T09:05:30Z")), latest)));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        String file = new String(content, StandardCharsets.ISO_8859_1);
+        content[file.indexOf("Intro") - Integer.BYTES - Integer.BYTES - Long.BYTES - 1] = (byte) 0xff; // type
+        Files.write(filePath, content);
+
+        Person alice = new BinaryAddressBookStorage(filePath, false, true).readAddressBook().get()
+                .getPersonList().get(0);
+        assertEquals(2, alice.getInteractions().size());
+        assertEquals(latest, alice.getLastInteractionOrNull());
+        assertThrows(IllegalStateException.class, () -> alice.getInteractions().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_readLazily_undecodedPersonsAndHistoriesCopied() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new Person(ALICE, List.of(
+                new Interaction(InteractionType.CALL, "Intro", Instant.parse("2025-10-14T09:05:30Z")),
+                new Interaction(InteractionType.MEETING, "Lunch", Instant.parse("2025-10-15T09:05:30Z")))));
+        original.addPerson(new PersonBuilder(BENSON).withPhone("98765432").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        String file = new String(content, StandardCharsets.ISO_8859_1);
+        content[file.indexOf("Intro") - Integer.BYTES - Integer.BYTES - Long.BYTES - 1] = (byte) 0xff; // type
+        content[file.indexOf("98765432")] = 'x';
+        Files.write(filePath, content);
+
+        // neither Benson nor the history of Alice can be decoded, so saving must copy them
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true, true);
+        AddressBook lazy = new AddressBook(storage.readAddressBook().get());
+        assertEquals(ALICE.getName(), lazy.getPersonList().get(0).getName());
+        lazy.addPerson(CARL);
+        storage.saveAddressBook(lazy.snapshot());
+
+        ReadOnlyAddressBook saved = new BinaryAddressBookStorage(filePath, true, true).readAddressBook().get();
+        assertEquals(3, saved.getPersonList().size());
+        assertEquals(CARL, saved.getPersonList().get(2));
+        assertThrows(IllegalStateException.class, () -> saved.getPersonList().get(1));
+        assertThrows(IllegalStateException.class, () -> saved.getPersonList().get(0).getInteractions().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_readLazilyThenChanged_sameAsSavingEagerly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook lazy = new AddressBook(storage.readAddressBook().get());
+        AddressBook expected = getTypicalAddressBook();
+        for (AddressBook addressBook : List.of(lazy, expected)) {
+            addressBook.removePerson(ALICE);
+            addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("1 New Street").withTags().build());
+        }
+
+        storage.saveAddressBook(lazy);
+        assertEquals(expected, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
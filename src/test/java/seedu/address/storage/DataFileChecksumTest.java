@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Version;
+import seedu.address.commons.util.JsonUtil;
+
+public class DataFileChecksumTest {
+
+    private static final DataFileChecksum CHECKSUM = new DataFileChecksum(new Version(1, 0, 0, false));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isTrusted_recordedAndUnchanged_returnsTrue() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+        Files.writeString(dataFile, "{\"persons\":[]}");
+        CHECKSUM.record(dataFile);
+        assertTrue(CHECKSUM.isTrusted(dataFile));
+    }
+
+    @Test
+    public void isTrusted_notRecorded_returnsFalse() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+        Files.writeString(dataFile, "{\"persons\":[]}");
+        assertFalse(CHECKSUM.isTrusted(dataFile));
+    }
+
+    @Test
+    public void isTrusted_editedAfterRecording_returnsFalse() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+        Files.writeString(dataFile, "{\"persons\":[]}");
+        CHECKSUM.record(dataFile);
+
+        Files.writeString(dataFile, "{\"persons\":[ ]}");
+        assertFalse(CHECKSUM.isTrusted(dataFile));
+        Files.writeString(dataFile, "{\"persons\":[}]");
+        assertFalse(CHECKSUM.isTrusted(dataFile));
+    }
+
+    @Test
+    public void isTrusted_writtenByOtherVersion_returnsFalse() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+        Files.writeString(dataFile, "{\"persons\":[]}");
+        CHECKSUM.record(dataFile);
+        Path checksumFile = DataFileChecksum.getChecksumFilePath(dataFile);
+        JsonAdaptedDataFileChecksum recorded =
+                JsonUtil.readJsonFile(checksumFile, JsonAdaptedDataFileChecksum.class).get();
+        JsonUtil.saveJsonFile(new JsonAdaptedDataFileChecksum("V0.0.1", recorded.getSize(), recorded.getChecksum()),
+                checksumFile);
+
+        assertFalse(CHECKSUM.isTrusted(dataFile));
+    }
+
+    @Test
+    public void isTrusted_unreadableChecksumFile_returnsFalse() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+        Files.writeString(dataFile, "{\"persons\":[]}");
+        Files.writeString(DataFileChecksum.getChecksumFilePath(dataFile), "not json");
+        assertFalse(CHECKSUM.isTrusted(dataFile));
+    }
+
+    @Test
+    public void isTrusted_noAppVersion_returnsFalse() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+        Files.writeString(dataFile, "{\"persons\":[]}");
+        CHECKSUM.record(dataFile);
+
+        DataFileChecksum withoutVersion = new DataFileChecksum(null);
+        assertFalse(withoutVersion.isTrusted(dataFile));
+        withoutVersion.record(dataFile);
+        assertTrue(CHECKSUM.isTrusted(dataFile));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.interaction.Interaction;
+import seedu.address.model.interaction.InteractionType;
+
+public class InteractionCacheTest {
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InteractionCache(-1));
+    }
+
+    @Test
+    public void cache_loadedAgain_servedFromCache() {
+        InteractionCache cache = new InteractionCache(10);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Interaction[]> loader = cache.cache(() -> {
+            loads.incrementAndGet();
+            return interactions(3);
+        });
+
+        Interaction[] first = loader.get();
+        assertSame(first, loader.get());
+        assertEquals(1, loads.get());
+        assertEquals(3, cache.getCachedCount());
+    }
+
+    @Test
+    public void cache_overCapacity_evictsLeastRecentlyUsed() {
+        InteractionCache cache = new InteractionCache(5);
+        AtomicInteger firstLoads = new AtomicInteger();
+        AtomicInteger secondLoads = new AtomicInteger();
+        Supplier<Interaction[]> first = cache.cache(() -> {
+            firstLoads.incrementAndGet();
+            return interactions(2);
+        });
+        Supplier<Interaction[]> second = cache.cache(() -> {
+            secondLoads.incrementAndGet();
+            return interactions(2);
+        });
+        Supplier<Interaction[]> third = cache.cache(() -> interactions(2));
+
+        first.get();
+        second.get();
+        first.get(); // second is now the least recently used
+        third.get();
+        assertEquals(4, cache.getCachedCount());
+
+        first.get();
+        second.get();
+        assertEquals(1, firstLoads.get());
+        assertEquals(2, secondLoads.get());
+    }
+
+    @Test
+    public void cache_historyLargerThanCapacity_notCached() {
+        InteractionCache cache = new InteractionCache(2);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Interaction[]> loader = cache.cache(() -> {
+            loads.incrementAndGet();
+            return interactions(3);
+        });
+
+        loader.get();
+        loader.get();
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.getCachedCount());
+    }
+
+    private static Interaction[] interactions(int count) {
+        Interaction[] interactions = new Interaction[count];
+        for (int i = 0; i < count; i++) {
+            interactions[i] = new Interaction(InteractionType.NOTE, "note " + i, Instant.ofEpochSecond(i));
+        }
+        return interactions;
+    }
+}
@@ -0,0 +1,262 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Version;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final Version APP_VERSION = new Version(1, 0, 0, false);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBookInBatches_noJournal_personsHandedOverInOrder() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 2500; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<List<Person>> batches = new ArrayList<>();
+        ReadOnlyAddressBook read = new JournaledAddressBookStorage(filePath).readAddressBookInBatches(batches::add)
+                .get();
+        assertTrue(batches.size() > 1);
+        assertEquals(original.getPersonList(), batches.stream().flatMap(List::stream).collect(Collectors.toList()));
+        assertEquals(original, new AddressBook(read));
+    }
+
+    @Test
+    public void readAddressBookInBatches_journalToReplay_noPersonsHandedOver() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        List<List<Person>> batches = new ArrayList<>();
+        ReadOnlyAddressBook read = new JournaledAddressBookStorage(filePath).readAddressBookInBatches(batches::add)
+                .get();
+        assertEquals(List.of(), batches);
+        assertEquals(original, new AddressBook(read));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_replayedFromJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99998888").build());
+        storage.saveAddressBook(original);
+        original.sortCadence(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        storage.saveAddressBook(original);
+
+        // the snapshot is left alone; only the journal grows, by one record after its header
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        storage.saveAddressBook(original);
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_pastCompactionThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, null, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        // only the header naming the new snapshot is left
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_recordsAlreadyInSnapshot_notReplayedTwice() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String journal = Files.readString(storage.getJournalFilePath());
+
+        // simulate a crash after the snapshot was compacted but before the journal was trimmed
+        storage.awaitCompaction();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Files.writeString(filePath, Files.readString(filePath).replaceFirst("\\{", "{ \"journalSequence\" : 1,"));
+        Files.writeString(storage.getJournalFilePath(), journal);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedByHand_journalSetAside() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Files.writeString(filePath, Files.readString(filePath).replace(BENSON.getPhone().value, "99998888"));
+        AddressBook edited = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(edited, new AddressBook(reopened.readAddressBook().get()));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        Path discardedPath = testFolder.resolve("addressbook.json" + JournaledAddressBookStorage.JOURNAL_FILE_SUFFIX
+                + JournaledAddressBookStorage.DISCARDED_JOURNAL_SUFFIX);
+        assertTrue(Files.exists(discardedPath));
+
+        // later changes start a journal made against the edited snapshot
+        edited.addPerson(HOON);
+        reopened.saveAddressBook(edited);
+        assertEquals(edited, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void compactAddressBook_journalWithRecords_snapshotHoldsEverything() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.compactAddressBook();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // saving after compacting starts a new journal
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "{\"sequence\":2,\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // the torn record is cut off so that later records start on a fresh line
+        Person extra = new PersonBuilder().withName("Zed").build();
+        original.addPerson(extra);
+        reopened.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String header = Files.readAllLines(storage.getJournalFilePath()).get(0);
+        Files.writeString(storage.getJournalFilePath(), header + "\n{\"sequence\":1,\"index\":99,\"removed\":1}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainJson() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+        assertTrue(Files.exists(otherPath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotUnchangedSinceSave_trustedAndSameAsSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath, APP_VERSION).saveAddressBook(original);
+
+        assertTrue(new DataFileChecksum(APP_VERSION).isTrusted(filePath));
+        assertEquals(original,
+                new AddressBook(new JournaledAddressBookStorage(filePath, APP_VERSION).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedExternally_validatedAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(filePath, APP_VERSION).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(filePath, Files.readString(filePath).replace(ALICE.getPhone().value, "not a phone"));
+
+        assertFalse(new DataFileChecksum(APP_VERSION).isTrusted(filePath));
+        assertThrows(DataLoadingException.class, () ->
+                new JournaledAddressBookStorage(filePath, APP_VERSION).readAddressBook());
+    }
+}
@@ -3,14 +3,20 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +26,121 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeJsonFile_sameAsSerializingWholeDocument() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("streamed.json");
+        JsonSerializableAddressBook.writeJsonFile(typicalPersonsAddressBook.getPersonList(), null, filePath);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalPersonsAddressBook));
+        assertEquals(expected, Files.readString(filePath));
+    }
+
+    @Test
+    public void writeJsonFile_withJournalSequence_readBack() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("streamed.json");
+        JsonSerializableAddressBook.writeJsonFile(typicalPersonsAddressBook.getPersonList(), 42L, filePath);
+
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(42, dataFromFile.getJournalSequence());
+        assertEquals(typicalPersonsAddressBook, dataFromFile.toModelType());
+
+        AddressBook streamed = new AddressBook();
+        assertEquals(42, JsonSerializableAddressBook.readJsonFile(filePath, streamed));
+        assertEquals(typicalPersonsAddressBook, streamed);
+    }
+
+    @Test
+    public void readJsonFile_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = new AddressBook();
+        assertEquals(0, JsonSerializableAddressBook.readJsonFile(TYPICAL_PERSONS_FILE, addressBookFromFile));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readJsonFile_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("extra.json");
+        Files.writeString(filePath, Files.readString(TYPICAL_PERSONS_FILE)
+                .replaceFirst("\\{", "{ \"_comment\" : { \"persons\" : [ 1, 2 ] }, \"version\" : 3,"));
+        AddressBook addressBookFromFile = new AddressBook();
+        JsonSerializableAddressBook.readJsonFile(filePath, addressBookFromFile);
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readJsonFile_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                JsonSerializableAddressBook.readJsonFile(INVALID_PERSON_FILE, new AddressBook()));
+    }
+
+    @Test
+    public void readJsonFile_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonSerializableAddressBook.readJsonFile(DUPLICATE_PERSON_FILE, new AddressBook()));
+    }
+
+    @Test
+    public void readJsonFile_manyChunks_orderKept() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 3 * JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE + 7; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        Path filePath = testFolder.resolve("large.json");
+        JsonSerializableAddressBook.writeJsonFile(original.getPersonList(), null, filePath);
+
+        AddressBook streamed = new AddressBook();
+        JsonSerializableAddressBook.readJsonFile(filePath, streamed);
+        assertEquals(original, streamed);
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType());
+    }
+
+    @Test
+    public void readJsonFile_invalidPersonsInSeveralChunks_reportsEveryOne() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE + 2; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        JsonAdaptedPerson invalid = new JsonAdaptedPerson(null, "98765432", "a@example.com", "street",
+                new ArrayList<>(), "client");
+        persons.set(1, invalid);
+        persons.set(persons.size() - 1, invalid);
+        Path filePath = testFolder.resolve("invalid.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, null), filePath);
+
+        String missingName = String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, "Name");
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 2, missingName)
+                + "\n" + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, persons.size(), missingName);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonSerializableAddressBook.readJsonFile(filePath, new AddressBook()));
+    }
+
+    @Test
+    public void readJsonFile_duplicatesInDifferentChunks_throwsIllegalValueException() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE + 1; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        persons.set(persons.size() - 1, persons.get(0));
+        Path filePath = testFolder.resolve("duplicate.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, null), filePath);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonSerializableAddressBook.readJsonFile(filePath, new AddressBook()));
+    }
+
+    @Test
+    public void readJsonFile_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        String content = Files.readString(TYPICAL_PERSONS_FILE);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.readJsonFile(filePath, new AddressBook()));
+    }
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -70,6 +70,16 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidValuesInFile_defaultValuesUsedForThem() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setLazyPersonLoadingEnabled(true);
+        expected.setSaveDelayMillis(250);
+        UserPrefs actual = readUserPrefs("InvalidValuesUserPref.json").get();
+
+        assertEquals(expected, actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
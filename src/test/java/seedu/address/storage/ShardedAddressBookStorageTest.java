@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidSegmentCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("addressbook.json"), 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("addressbook.json"), Character.MAX_RADIX + 1));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json"), 4).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_orderKeptAcrossSegments() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(readAgain(filePath, 4)));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.sortCadence(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(readAgain(filePath, 4)));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOnlyItsSegment() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Set<String> before = listSegments(storage);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99998888").build());
+        storage.saveAddressBook(original);
+        Set<String> after = listSegments(storage);
+
+        assertEquals(4, after.size());
+        after.removeAll(before);
+        assertEquals(1, after.size());
+        assertEquals(original, new AddressBook(readAgain(filePath, 4)));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Path manifest = storage.getShardDirectory().resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        String manifestBefore = Files.readString(manifest);
+        Set<String> segmentsBefore = listSegments(storage);
+
+        storage.saveAddressBook(new AddressBook(original));
+        assertEquals(manifestBefore, Files.readString(manifest));
+        assertEquals(segmentsBefore, listSegments(storage));
+    }
+
+    @Test
+    public void readAddressBook_unshardedFile_splitOnFirstSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage unsharded = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        unsharded.saveAddressBook(original);
+        original.addPerson(HOON);
+        unsharded.saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 3);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, read);
+        assertTrue(Files.exists(filePath));
+
+        storage.saveAddressBook(read);
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(unsharded.getJournalFilePath()));
+        assertEquals(original, new AddressBook(readAgain(filePath, 3)));
+    }
+
+    @Test
+    public void saveAddressBook_segmentCountChanged_resplits() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath, 6).saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 2);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(read);
+
+        assertEquals(2, listSegments(storage).size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(readAgain(filePath, 2)));
+    }
+
+    @Test
+    public void readAddressBook_orderNotMatchingSegments_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path manifestPath = storage.getShardDirectory().resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        JsonAdaptedShardManifest manifest =
+                JsonUtil.readJsonFile(manifestPath, JsonAdaptedShardManifest.class).get();
+        JsonUtil.saveJsonFile(new JsonAdaptedShardManifest(manifest.getGeneration(), manifest.getSegments(),
+                manifest.getOrder().substring(1)), manifestPath);
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath, 4).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(storage.getShardDirectory().resolve(listSegments(storage).iterator().next()));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath, 4).readAddressBook());
+    }
+
+    private static AddressBook readAgain(Path filePath, int segmentCount) throws Exception {
+        return new AddressBook(new ShardedAddressBookStorage(filePath, segmentCount).readAddressBook().get());
+    }
+
+    private static Set<String> listSegments(ShardedAddressBookStorage storage) throws Exception {
+        try (Stream<Path> files = Files.list(storage.getShardDirectory())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith("segment-"))
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+}
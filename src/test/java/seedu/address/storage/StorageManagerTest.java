@@ -1,10 +1,17 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,6 +69,125 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_inBackground_writesSnapshotOnFlush() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonCommandHistoryStorage(getTempFilePath("history")), 60_000);
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorage.saveAddressBook(original);
+        assertFalse(Files.exists(getTempFilePath("ab")));
+
+        // later changes are not part of the saved snapshot
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        backgroundStorage.flushAddressBook();
+        assertEquals(expected, new AddressBook(backgroundStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_journaledStorage_journalCompactedIntoFile() throws Exception {
+        JournaledAddressBookStorage addressBookStorage = new JournaledAddressBookStorage(getTempFilePath("ab"));
+        StorageManager journaledStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonCommandHistoryStorage(getTempFilePath("history")), 60_000);
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        journaledStorage.flushAddressBook();
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+
+        journaledStorage.flushAddressBook();
+        assertFalse(Files.exists(addressBookStorage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(getTempFilePath("ab")).readAddressBook()
+                .get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_notWrittenAgain() throws Exception {
+        int[] writes = new int[1];
+        JsonAddressBookStorage countingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writes[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager countingStorageManager = new StorageManager(countingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonCommandHistoryStorage(getTempFilePath("history")));
+        AddressBook addressBook = getTypicalAddressBook();
+        countingStorageManager.saveAddressBook(addressBook);
+        countingStorageManager.saveAddressBook(addressBook);
+        assertEquals(1, writes[0]);
+
+        addressBook.addPerson(HOON);
+        countingStorageManager.saveAddressBook(addressBook);
+        assertEquals(2, writes[0]);
+
+        // a different address book with the same contents is still written
+        countingStorageManager.saveAddressBook(new AddressBook(addressBook));
+        assertEquals(3, writes[0]);
+    }
+
+    @Test
+    public void saveAddressBook_inBackgroundAfterFailedWrite_queuedAgain() throws Exception {
+        boolean[] isFailing = {true};
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw new IOException("Disk full");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonCommandHistoryStorage(getTempFilePath("history")), 60_000);
+        List<SaveStatus.State> states = new ArrayList<>();
+        backgroundStorage.setSaveStatusListener(status -> states.add(status.getState()));
+        AddressBook addressBook = getTypicalAddressBook();
+        backgroundStorage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, backgroundStorage::flushAddressBook);
+
+        isFailing[0] = false;
+        backgroundStorage.saveAddressBook(addressBook);
+        assertEquals(List.of(SaveStatus.State.PENDING, SaveStatus.State.FAILED, SaveStatus.State.PENDING), states);
+        backgroundStorage.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(backgroundStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedSinceRead_notWritten() throws Exception {
+        new JsonAddressBookStorage(getTempFilePath("ab")).saveAddressBook(getTypicalAddressBook());
+        int[] writes = new int[1];
+        JsonAddressBookStorage countingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writes[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager countingStorageManager = new StorageManager(countingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonCommandHistoryStorage(getTempFilePath("history")));
+
+        ReadOnlyAddressBook read = countingStorageManager.readAddressBook().get();
+        countingStorageManager.saveAddressBook(read);
+        assertEquals(0, writes[0]);
+
+        // a copy of what was read is written unless it is marked as saved
+        AddressBook copy = new AddressBook(read);
+        countingStorageManager.markAddressBookSaved(copy);
+        countingStorageManager.saveAddressBook(copy);
+        assertEquals(0, writes[0]);
+        copy.addPerson(HOON);
+        countingStorageManager.saveAddressBook(copy);
+        assertEquals(1, writes[0]);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
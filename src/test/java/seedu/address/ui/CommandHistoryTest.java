@@ -3,6 +3,9 @@ package seedu.address.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -77,4 +80,35 @@ public class CommandHistoryTest {
         assertNull(history.getPrevious());
         assertEquals("", history.getNext());
     }
+
+    @Test
+    public void add_beyondCapacity_dropsOldest() {
+        CommandHistory bounded = new CommandHistory(List.of("a", "b"), 3);
+        bounded.add("c");
+        bounded.add("d");
+        bounded.add("e");
+
+        assertEquals(List.of("c", "d", "e"), bounded.getHistory());
+        assertEquals("e", bounded.getPrevious());
+        assertEquals("d", bounded.getPrevious());
+        assertEquals("c", bounded.getPrevious());
+        assertNull(bounded.getPrevious());
+        assertEquals("d", bounded.getNext());
+    }
+
+    @Test
+    public void constructor_historyBeyondCapacity_keepsMostRecent() {
+        assertEquals(List.of("c", "d"), new CommandHistory(List.of("a", "b", "c", "d"), 2).getHistory());
+    }
+
+    @Test
+    public void add_withListener_toldAboutAddedCommandsOnly() {
+        List<String> added = new ArrayList<>();
+        history.setOnAdded(added::add);
+        history.add("list");
+        history.add("  ");
+        history.add("exit");
+
+        assertEquals(List.of("list", "exit"), added);
+    }
 }